@@ -0,0 +1,32 @@
+package br.com.papillon.eventos.auth.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BcryptExecutorConfig {
+
+    // BCrypt é CPU de propósito: por padrão metade dos núcleos, o resto fica para o CRUD.
+    // Fila curta e AbortPolicy: com tudo ocupado o login recebe 503 em vez de prender mais threads do Tomcat
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor bcryptExecutor(
+            @Value("${app.auth.login.bcrypt.threads:0}") int threads,
+            @Value("${app.auth.login.bcrypt.fila:16}") int fila) {
+        int n = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(n, n, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                r -> {
+                    Thread t = new Thread(r, "bcrypt-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -2,7 +2,14 @@ package br.com.papillon.eventos.auth.config;
 
 import br.com.papillon.eventos.auth.filters.JwtFilter;
 import br.com.papillon.eventos.auth.services.CustomUserDetailsService;
+import br.com.papillon.eventos.auth.services.TokenService;
+import br.com.papillon.eventos.auth.services.UserDetailsCache;
+import br.com.papillon.eventos.common.metricas.SqlEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.*;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.*;
@@ -20,13 +27,20 @@ import java.util.List;
 @Configuration
 public class SecurityConfig {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    @Value("${app.auth.principal:CLAIMS}")
+    private JwtFilter.ModoPrincipal modoPrincipal;
 
     private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenService tokenService;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, UserDetailsCache userDetailsCache,
+                          TokenService tokenService, MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenService = tokenService;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -42,7 +56,8 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        JwtFilter jwtFilter = new JwtFilter(secret, userDetailsService);
+        JwtFilter jwtFilter = new JwtFilter(tokenService, userDetailsService, userDetailsCache, modoPrincipal,
+                meterRegistry);
 
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -51,7 +66,12 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/auth/logout").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/auth/validate").permitAll()
+                // servidor de gerenciamento só em 127.0.0.1 (management.server.*): scrape local sem token
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
+                .requestMatchers(EndpointRequest.to(SqlEndpoint.class)).hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
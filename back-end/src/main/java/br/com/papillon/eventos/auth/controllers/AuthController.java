@@ -1,8 +1,10 @@
 package br.com.papillon.eventos.auth.controllers;
 
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
@@ -10,21 +12,27 @@ import org.springframework.security.core.userdetails.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
 import br.com.papillon.eventos.auth.entities.User;
 import br.com.papillon.eventos.auth.dtos.AuthRequest;
 import br.com.papillon.eventos.auth.dtos.AuthResponse;
+import br.com.papillon.eventos.auth.dtos.RefreshRequest;
 import br.com.papillon.eventos.auth.dtos.RegisterRequest;
+import br.com.papillon.eventos.auth.exception.LoginBloqueadoException;
 import br.com.papillon.eventos.auth.repositories.UserRepository;
+import br.com.papillon.eventos.auth.services.BcryptPool;
+import br.com.papillon.eventos.auth.services.LoginThrottle;
+import br.com.papillon.eventos.auth.services.RefreshTokenService;
+import jakarta.servlet.http.HttpServletRequest;
 
-import java.security.Key;
-import java.util.Base64;
-import java.util.Date;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private AuthenticationManager authManager;
 
@@ -37,13 +45,19 @@ public class AuthController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
 
-    @Value("${jwt.secret}")
-    private String secret;
+    @Autowired
+    private BcryptPool bcryptPool;
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
-        System.out.println("[AUTH] Registrando novo usuário: " + request.getUsername());
+    public ResponseEntity<?> register(@RequestBody RegisterRequest request, HttpServletRequest http) {
+        log.debug("Registrando novo usuário {}", request.getUsername());
+        loginThrottle.verificar(request.getUsername(), http.getRemoteAddr());
 
         Optional<User> existing = userRepository.findByUsername(request.getUsername());
         if (existing.isPresent()) {
@@ -52,50 +66,62 @@ public class AuthController {
 
         User user = new User();
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(bcryptPool.executar(() -> passwordEncoder.encode(request.getPassword())));
         user.setRole("ROLE_ADMIN"); // ou "ROLE_USER", dependendo da lógica
 
         userRepository.save(user);
 
-        System.out.println("[AUTH] Usuário criado com sucesso");
+        log.info("Usuário {} registrado", user.getUsername());
         return ResponseEntity.ok("Usuário registrado com sucesso");
     }
 
 
     @PostMapping("/login")
-    public AuthResponse login(@RequestBody AuthRequest request) {
-        System.out.println("[AUTH] Tentando autenticar usuário: " + request.getUsername());
+    public AuthResponse login(@RequestBody AuthRequest request, HttpServletRequest http) {
+        log.debug("Autenticando usuário {}", request.getUsername());
+        loginThrottle.verificar(request.getUsername(), http.getRemoteAddr());
 
         try {
             Authentication auth = new UsernamePasswordAuthenticationToken(
                     request.getUsername(), request.getPassword());
 
-            authManager.authenticate(auth);
-            System.out.println("[AUTH] Usuário autenticado com sucesso!");
-
-            UserDetails user = userDetailsService.loadUserByUsername(request.getUsername());
+            bcryptPool.executar(() -> authManager.authenticate(auth));
 
-            Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+            CustomUserDetails user = (CustomUserDetails) userDetailsService.loadUserByUsername(request.getUsername());
 
-            String token = Jwts.builder()
-                    .setSubject(user.getUsername())
-                    .claim("role", user.getAuthorities().iterator().next().getAuthority())
-                    .setIssuedAt(new Date())
-                    .setExpiration(new Date(System.currentTimeMillis() + 28800000)) // 1h
-                    .signWith(key, SignatureAlgorithm.HS256)
-                    .compact();
+            RefreshTokenService.Par par = refreshTokenService.emitir(user.getUser());
 
-            System.out.println("[AUTH] Token JWT gerado com sucesso.");
-            return new AuthResponse(token);
+            log.debug("Usuário {} autenticado, tokens emitidos", request.getUsername());
+            return new AuthResponse(par.accessToken(), par.refreshToken());
 
         } catch (Exception e) {
-            System.out.println("[AUTH] Falha na autenticação: " + e.getMessage());
+            log.info("Falha na autenticação de {}: {}", request.getUsername(), e.getMessage());
             throw e;
         }
     }
 
+    // troca o refresh token por um par novo, sem senha: não passa pelo AuthenticationManager/BCrypt
+    @PostMapping("/refresh")
+    public AuthResponse refresh(@RequestBody RefreshRequest request) {
+        RefreshTokenService.Par par = refreshTokenService.rotacionar(request.getRefreshToken());
+        return new AuthResponse(par.accessToken(), par.refreshToken());
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshRequest request) {
+        refreshTokenService.revogar(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/validate")
     public boolean validateToken(Authentication authentication) {
         return authentication != null && authentication.isAuthenticated();
     }
+
+    @ExceptionHandler(LoginBloqueadoException.class)
+    public ResponseEntity<String> loginBloqueado(LoginBloqueadoException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSegundos()))
+                .body(e.getMessage());
+    }
 }
@@ -2,12 +2,18 @@ package br.com.papillon.eventos.auth.dtos;
 
 public class AuthResponse {
     private String token;
+    private String refreshToken;
 
-    public AuthResponse(String token) {
+    public AuthResponse(String token, String refreshToken) {
         this.token = token;
+        this.refreshToken = refreshToken;
     }
 
     public String getToken() {
         return token;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
 }
@@ -0,0 +1,12 @@
+package br.com.papillon.eventos.auth.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RefreshRequest {
+    private String refreshToken;
+}
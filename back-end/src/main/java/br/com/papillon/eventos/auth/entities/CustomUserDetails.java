@@ -14,6 +14,14 @@ public class CustomUserDetails implements UserDetails {
         this.user = user;
     }
 
+    // principal montado só com o que o JWT já assinou (subject e role), sem ir ao banco; não tem id nem senha
+    public static CustomUserDetails fromClaims(String username, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setRole(role);
+        return new CustomUserDetails(user);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(() -> user.getRole());
@@ -0,0 +1,57 @@
+package br.com.papillon.eventos.auth.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Refresh token emitido no login. Só o SHA-256 do token fica no banco.
+ * Cada uso gera um token novo da mesma família e marca o anterior como usado; um token usado que volta
+ * depois da tolerância indica vazamento e revoga a família toda.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expira_em", columnList = "expira_em"),
+        @Index(name = "idx_refresh_tokens_familia", columnList = "familia")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // todos os tokens de um mesmo login, através das rotações
+    @Column(nullable = false, length = 36)
+    private String familia;
+
+    @Column(name = "expira_em", nullable = false)
+    private Instant expiraEm;
+
+    // rotacionado ou revogado; null = ainda pode ser usado
+    @Column(name = "usado_em")
+    private Instant usadoEm;
+}
@@ -2,16 +2,23 @@ package br.com.papillon.eventos.auth.entities;
 
 import jakarta.persistence.Id;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 
+import br.com.papillon.eventos.auth.services.UserCacheEviction;
+
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheEviction.class)
 @Data
 @NoArgsConstructor
 public class User {
@@ -24,5 +31,11 @@ public class User {
     @NotBlank
     private String password;
     private String role;
+
+    // username como está no banco (lido ou gravado por último), para a troca de username tirar o nome antigo do cache
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String usernameGravado;
 }
 
@@ -0,0 +1,16 @@
+package br.com.papillon.eventos.auth.exception;
+
+// 429: tentativas demais para o usuário ou para o IP; vira Retry-After no AuthController
+public class LoginBloqueadoException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public LoginBloqueadoException(long retryAfterSegundos) {
+        super("Muitas tentativas de login. Tente novamente em " + retryAfterSegundos + " segundo(s).");
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
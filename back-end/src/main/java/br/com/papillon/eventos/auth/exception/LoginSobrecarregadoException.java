@@ -0,0 +1,11 @@
+package br.com.papillon.eventos.auth.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class LoginSobrecarregadoException extends RuntimeException {
+    public LoginSobrecarregadoException() {
+        super("Autenticação sobrecarregada. Tente novamente em instantes.");
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.papillon.eventos.auth.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class RefreshTokenInvalidoException extends RuntimeException {
+    public RefreshTokenInvalidoException(String message) {
+        super(message);
+    }
+}
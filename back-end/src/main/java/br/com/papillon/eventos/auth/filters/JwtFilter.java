@@ -1,7 +1,8 @@
 package br.com.papillon.eventos.auth.filters;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
@@ -11,19 +12,49 @@ import org.springframework.security.core.userdetails.*;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.services.TokenService;
+import br.com.papillon.eventos.auth.services.UserDetailsCache;
+
 import java.io.IOException;
-import java.security.Key;
-import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final Key key;
+    /**
+     * De onde vem o principal de um token válido (app.auth.principal).
+     * CLAIMS: só do subject e da role assinados no token, sem consulta; uma mudança de papel ou a remoção do
+     * usuário só vale quando o token expira.
+     * CACHE: do banco, via UserDetailsCache; no máximo uma consulta por usuário a cada TTL ou alteração.
+     */
+    public enum ModoPrincipal { CLAIMS, CACHE }
+
+    private final TokenService tokenService;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsCache cache;
+    private final ModoPrincipal modo;
+    // só o trabalho do filtro (verificação do token e montagem do principal), sem o resto da cadeia
+    private final Timer autenticado;
+    private final Timer anonimo;
+    private final Timer invalido;
 
-    public JwtFilter(String secret, UserDetailsService uds) {
-        // decodifica segredo Base64 (ex: vindo do application.properties)
-        this.key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+    public JwtFilter(TokenService tokenService, UserDetailsService uds, UserDetailsCache cache, ModoPrincipal modo,
+                     MeterRegistry registry) {
+        this.tokenService = tokenService;
         this.userDetailsService = uds;
+        this.cache = cache;
+        this.modo = modo;
+        this.autenticado = timer(registry, "autenticado");
+        this.anonimo = timer(registry, "anonimo");
+        this.invalido = timer(registry, "invalido");
+    }
+
+    private static Timer timer(MeterRegistry registry, String resultado) {
+        return Timer.builder("auth.jwt.filtro")
+                .description("Tempo do JwtFilter por pedido")
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(registry);
     }
 
     @Override
@@ -37,18 +68,19 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
+        long inicio = System.nanoTime();
+        Timer resultado = anonimo;
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
             try {
-                Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
-                        .parseClaimsJws(token).getBody();
+                Claims claims = tokenService.verificar(token);
 
                 String username = claims.getSubject();
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails user = userDetailsService.loadUserByUsername(username);
+                    UserDetails user = principal(username, claims.get("role", String.class));
 
                     UsernamePasswordAuthenticationToken auth =
                             new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
@@ -56,12 +88,23 @@ public class JwtFilter extends OncePerRequestFilter {
                     auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 }
+                resultado = autenticado;
 
-            } catch (JwtException e) {
-                // log pode ser adicionado aqui se desejar
+            } catch (JwtException | UsernameNotFoundException e) {
+                // token inválido ou usuário removido: segue sem autenticação
+                resultado = invalido;
             }
         }
+        resultado.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
 
         chain.doFilter(request, response);
     }
+
+    private UserDetails principal(String username, String role) {
+        // token sem role (emitido fora do /login) cai no cache mesmo no modo CLAIMS
+        if (modo == ModoPrincipal.CLAIMS && role != null) {
+            return CustomUserDetails.fromClaims(username, role);
+        }
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
 }
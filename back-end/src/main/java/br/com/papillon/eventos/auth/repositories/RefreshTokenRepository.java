@@ -0,0 +1,36 @@
+package br.com.papillon.eventos.auth.repositories;
+
+import br.com.papillon.eventos.auth.entities.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // compare-and-set: só um pedido consegue usar o token; 0 linhas = já foi usado ou revogado
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.usadoEm = :agora where r.id = :id and r.usadoEm is null")
+    int marcarUsado(@Param("id") Long id, @Param("agora") Instant agora);
+
+    // sem lock: quem perde o compare-and-set já esperou o UPDATE do vencedor commitar, então lê o usadoEm gravado
+    @Query("select r.usadoEm from RefreshToken r where r.id = :id")
+    Optional<Instant> findUsadoEmById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.usadoEm = :agora where r.familia = :familia and r.usadoEm is null")
+    int revogarFamilia(@Param("familia") String familia, @Param("agora") Instant agora);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken r where r.expiraEm < :agora")
+    int deleteExpirados(@Param("agora") Instant agora);
+}
@@ -0,0 +1,74 @@
+package br.com.papillon.eventos.auth.services;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import br.com.papillon.eventos.auth.exception.LoginSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Roda o que envolve BCrypt (authenticate no login, encode no registro) no pool limitado bcryptExecutor.
+ * A thread do pedido espera o resultado; se o pool e a fila estão cheios, falha na hora com 503.
+ */
+@Service
+public class BcryptPool {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer espera;
+    private final Counter rejeitados;
+
+    public BcryptPool(@Qualifier("bcryptExecutor") ThreadPoolExecutor executor, MeterRegistry registry) {
+        this.executor = executor;
+        this.espera = Timer.builder("auth.login.espera")
+                .description("Tempo na fila do pool de BCrypt até começar a verificação")
+                .register(registry);
+        this.rejeitados = Counter.builder("auth.login.rejeitados")
+                .description("Tentativas de login recusadas antes do BCrypt")
+                .tag("motivo", "sobrecarga")
+                .register(registry);
+        Gauge.builder("auth.login.fila", executor, e -> e.getQueue().size())
+                .description("Verificações de senha aguardando uma thread do pool")
+                .register(registry);
+        Gauge.builder("auth.login.ativos", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Verificações de senha em andamento")
+                .register(registry);
+    }
+
+    public <T> T executar(Callable<T> tarefa) {
+        long enviadoEm = System.nanoTime();
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(() -> {
+                espera.record(System.nanoTime() - enviadoEm, TimeUnit.NANOSECONDS);
+                return tarefa.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejeitados.increment();
+            throw new LoginSobrecarregadoException();
+        }
+
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginSobrecarregadoException();
+        } catch (ExecutionException e) {
+            // BadCredentialsException e afins seguem como se tivessem sido lançadas aqui
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException re) throw re;
+            if (causa instanceof Error er) throw er;
+            throw new IllegalStateException(causa);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.papillon.eventos.auth.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.papillon.eventos.auth.exception.LoginBloqueadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Token bucket por username e por IP para o login e o registro, checado antes de qualquer BCrypt.
+ * Os baldes ficam em listras (um LRU e um lock por listra), então pedidos de chaves diferentes raramente
+ * disputam o mesmo lock e a memória fica limitada a LISTRAS * max-por-listra baldes por tipo.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final int LISTRAS = 64;
+
+    private record Limite(int capacidade, double fichasPorNano) {
+        static Limite porMinuto(int capacidade, int porMinuto) {
+            return new Limite(capacidade, porMinuto / (double) TimeUnit.MINUTES.toNanos(1));
+        }
+    }
+
+    private static final class Balde {
+        double fichas;
+        long atualizadoEm;
+
+        Balde(double fichas, long atualizadoEm) {
+            this.fichas = fichas;
+            this.atualizadoEm = atualizadoEm;
+        }
+    }
+
+    private final Limite porUsuario;
+    private final Limite porIp;
+    private final int maxPorListra;
+    private final LongSupplier relogio;
+    private final LinkedHashMap<String, Balde>[] usuarios = listras();
+    private final LinkedHashMap<String, Balde>[] ips = listras();
+    private final Counter rejeitadosUsuario;
+    private final Counter rejeitadosIp;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry registry,
+                         @Value("${app.auth.login.usuario.capacidade:5}") int capacidadeUsuario,
+                         @Value("${app.auth.login.usuario.por-minuto:5}") int porMinutoUsuario,
+                         @Value("${app.auth.login.ip.capacidade:30}") int capacidadeIp,
+                         @Value("${app.auth.login.ip.por-minuto:30}") int porMinutoIp,
+                         @Value("${app.auth.login.max-por-listra:256}") int maxPorListra) {
+        this(registry, capacidadeUsuario, porMinutoUsuario, capacidadeIp, porMinutoIp, maxPorListra, System::nanoTime);
+    }
+
+    // relógio em nanos, trocável nos testes
+    public LoginThrottle(MeterRegistry registry, int capacidadeUsuario, int porMinutoUsuario,
+                         int capacidadeIp, int porMinutoIp, int maxPorListra, LongSupplier relogio) {
+        this.porUsuario = Limite.porMinuto(capacidadeUsuario, porMinutoUsuario);
+        this.porIp = Limite.porMinuto(capacidadeIp, porMinutoIp);
+        this.maxPorListra = maxPorListra;
+        this.relogio = relogio;
+        this.rejeitadosUsuario = rejeitados(registry, "usuario");
+        this.rejeitadosIp = rejeitados(registry, "ip");
+    }
+
+    /** Gasta uma ficha do IP e uma do username; lança LoginBloqueadoException se algum dos dois está sem. */
+    public void verificar(String username, String ip) {
+        long esperaNanos = consumir(ips, porIp, ip == null ? "" : ip);
+        if (esperaNanos > 0) {
+            rejeitadosIp.increment();
+            throw new LoginBloqueadoException(segundos(esperaNanos));
+        }
+        esperaNanos = consumir(usuarios, porUsuario, username == null ? "" : username.trim().toLowerCase(Locale.ROOT));
+        if (esperaNanos > 0) {
+            rejeitadosUsuario.increment();
+            throw new LoginBloqueadoException(segundos(esperaNanos));
+        }
+    }
+
+    // 0 = consumiu uma ficha; senão, nanos até a próxima ficha
+    private long consumir(LinkedHashMap<String, Balde>[] listras, Limite limite, String chave) {
+        LinkedHashMap<String, Balde> listra = listras[Math.floorMod(chave.hashCode(), LISTRAS)];
+        long agora = relogio.getAsLong();
+        synchronized (listra) {
+            Balde balde = listra.get(chave);
+            if (balde == null) {
+                balde = new Balde(limite.capacidade(), agora);
+                listra.put(chave, balde);
+                // balde despejado é igual a um cheio: só sai quem está há mais tempo sem tentar
+                Iterator<String> it = listra.keySet().iterator();
+                while (listra.size() > maxPorListra && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            } else {
+                balde.fichas = Math.min(limite.capacidade(),
+                        balde.fichas + (agora - balde.atualizadoEm) * limite.fichasPorNano());
+                balde.atualizadoEm = agora;
+            }
+            if (balde.fichas >= 1) {
+                balde.fichas -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - balde.fichas) / limite.fichasPorNano()));
+        }
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, (long) Math.ceil(nanos / 1e9));
+    }
+
+    private static Counter rejeitados(MeterRegistry registry, String motivo) {
+        return Counter.builder("auth.login.rejeitados")
+                .description("Tentativas de login recusadas antes do BCrypt")
+                .tag("motivo", motivo)
+                .register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LinkedHashMap<String, Balde>[] listras() {
+        LinkedHashMap<String, Balde>[] listras = new LinkedHashMap[LISTRAS];
+        for (int i = 0; i < LISTRAS; i++) {
+            listras[i] = new LinkedHashMap<>(16, 0.75f, true);
+        }
+        return listras;
+    }
+}
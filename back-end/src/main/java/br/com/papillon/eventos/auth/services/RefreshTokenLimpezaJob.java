@@ -0,0 +1,29 @@
+package br.com.papillon.eventos.auth.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Apaga os refresh tokens expirados (usados ou não), que já não servem nem para detectar reuso.
+ */
+@Component
+public class RefreshTokenLimpezaJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenLimpezaJob.class);
+
+    private final RefreshTokenService refreshTokenService;
+
+    public RefreshTokenLimpezaJob(RefreshTokenService refreshTokenService) {
+        this.refreshTokenService = refreshTokenService;
+    }
+
+    @Scheduled(cron = "${app.auth.refresh-token.limpeza.cron:0 30 3 * * *}", zone = "${app.zonedatetime}")
+    public void executar() {
+        int apagados = refreshTokenService.limparExpirados();
+        if (apagados > 0) {
+            log.info("{} refresh token(s) expirado(s) apagados", apagados);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.papillon.eventos.auth.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.entities.RefreshToken;
+import br.com.papillon.eventos.auth.entities.User;
+import br.com.papillon.eventos.auth.exception.RefreshTokenInvalidoException;
+import br.com.papillon.eventos.auth.repositories.RefreshTokenRepository;
+
+/**
+ * Par access token (JWT curto) + refresh token (opaco, rotacionado a cada uso).
+ * A renovação só consulta o refresh_tokens e assina um JWT novo: não passa pelo AuthenticationManager nem pelo BCrypt.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public record Par(String accessToken, String refreshToken) {}
+
+    private final RefreshTokenRepository repo;
+    private final TokenService tokenService;
+    private final Duration validade;
+    private final Duration tolerancia;
+    private final Clock relogio;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository repo, TokenService tokenService,
+                               @Value("${app.auth.refresh-token.dias:7}") long validadeDias,
+                               @Value("${app.auth.refresh-token.tolerancia-segundos:30}") long toleranciaSegundos) {
+        this(repo, tokenService, Duration.ofDays(validadeDias), Duration.ofSeconds(toleranciaSegundos),
+                Clock.systemUTC());
+    }
+
+    public RefreshTokenService(RefreshTokenRepository repo, TokenService tokenService,
+                               Duration validade, Duration tolerancia, Clock relogio) {
+        this.repo = repo;
+        this.tokenService = tokenService;
+        this.validade = validade;
+        this.tolerancia = tolerancia;
+        this.relogio = relogio;
+    }
+
+    @Transactional
+    public Par emitir(User user) {
+        return emitir(user, UUID.randomUUID().toString());
+    }
+
+    // a revogação da família precisa ficar gravada mesmo com a exceção
+    @Transactional(noRollbackFor = RefreshTokenInvalidoException.class)
+    public Par rotacionar(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new RefreshTokenInvalidoException("Refresh token ausente");
+        }
+        Instant agora = relogio.instant();
+        RefreshToken atual = repo.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new RefreshTokenInvalidoException("Refresh token inválido"));
+        if (!agora.isBefore(atual.getExpiraEm())) {
+            throw new RefreshTokenInvalidoException("Refresh token expirado");
+        }
+
+        if (repo.marcarUsado(atual.getId(), agora) == 0) {
+            // já usado: dentro da tolerância é corrida entre abas/pedidos do mesmo cliente, depois disso é reuso
+            Instant usadoEm = repo.findUsadoEmById(atual.getId()).orElse(agora);
+            if (usadoEm.plus(tolerancia).isBefore(agora)) {
+                int revogados = repo.revogarFamilia(atual.getFamilia(), agora);
+                log.warn("Refresh token reutilizado para o usuário {}: família {} revogada ({} token(s))",
+                        atual.getUser().getUsername(), atual.getFamilia(), revogados);
+            }
+            throw new RefreshTokenInvalidoException("Refresh token já utilizado");
+        }
+        return emitir(atual.getUser(), atual.getFamilia());
+    }
+
+    // logout: invalida o token apresentado e todos os da mesma família
+    @Transactional
+    public void revogar(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return;
+        repo.findByTokenHash(hash(refreshToken))
+                .ifPresent(t -> repo.revogarFamilia(t.getFamilia(), relogio.instant()));
+    }
+
+    // os usados continuam até expirar: é o que permite reconhecer um reuso
+    public int limparExpirados() {
+        return repo.deleteExpirados(relogio.instant());
+    }
+
+    private Par emitir(User user, String familia) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        repo.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(refreshToken))
+                .familia(familia)
+                .expiraEm(relogio.instant().plus(validade))
+                .build());
+        return new Par(tokenService.gerar(new CustomUserDetails(user)), refreshToken);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.papillon.eventos.auth.services;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Emissão e verificação dos JWT com uma chave e um parser só (o JwtParser do jjwt é imutável e thread-safe).
+ * Tokens já verificados ficam num LRU pequeno, pelo SHA-256 do token, até o próprio exp: um cliente que repete
+ * o mesmo token não paga de novo o HMAC nem o parse do JSON.
+ */
+@Service
+public class TokenService {
+
+    private record Verificado(Claims claims, long expiraEm) {}
+
+    private final Key key;
+    private final JwtParser parser;
+    private final Clock relogio;
+    private final long validadeMs;
+    private final int maxEntradas;
+    private final LinkedHashMap<ByteBuffer, Verificado> verificados = new LinkedHashMap<>(16, 0.75f, true);
+
+    @Autowired
+    public TokenService(@Value("${jwt.secret}") String secret,
+                        @Value("${app.auth.token-cache.max-entradas:1024}") int maxEntradas,
+                        @Value("${app.auth.access-token.minutos:15}") long validadeMinutos) {
+        this(secret, maxEntradas, Duration.ofMinutes(validadeMinutos), Clock.systemUTC());
+    }
+
+    public TokenService(String secret, int maxEntradas, Duration validade, Clock relogio) {
+        this.key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        this.relogio = relogio;
+        this.validadeMs = validade.toMillis();
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> Date.from(relogio.instant()))
+                .build();
+        this.maxEntradas = maxEntradas;
+    }
+
+    public String gerar(UserDetails user) {
+        long agora = relogio.millis();
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim("role", user.getAuthorities().iterator().next().getAuthority())
+                .setIssuedAt(new Date(agora))
+                .setExpiration(new Date(agora + validadeMs))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /** Claims de um token válido; lança JwtException se a assinatura não confere ou se já expirou. */
+    public Claims verificar(String token) {
+        ByteBuffer digest = digest(token);
+        long agora = relogio.millis();
+        synchronized (this) {
+            Verificado v = verificados.get(digest);
+            if (v != null) {
+                if (agora < v.expiraEm()) return v.claims();
+                verificados.remove(digest);
+            }
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        // sem exp não entra no cache: seria válido para sempre
+        if (claims.getExpiration() != null) {
+            synchronized (this) {
+                verificados.put(digest, new Verificado(claims, claims.getExpiration().getTime()));
+                Iterator<Map.Entry<ByteBuffer, Verificado>> it = verificados.entrySet().iterator();
+                while (verificados.size() > maxEntradas && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+        return claims;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new JwtException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.papillon.eventos.auth.services;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.papillon.eventos.auth.entities.User;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA do User (o Hibernate obtém o bean do Spring): qualquer gravação de usuário tira o username
+ * do UserDetailsCache, para que senha ou papel novos valham já no próximo pedido.
+ * Os callbacks rodam no flush, antes do commit; o evict espera o commit, senão um carregamento entre os dois
+ * lê a linha antiga e a guarda no cache pelo TTL inteiro. Numa troca de username saem o nome antigo e o novo.
+ * O cache vem por ObjectProvider porque contextos só de JPA (@DataJpaTest) não têm esse bean.
+ */
+@Component
+public class UserCacheEviction {
+
+    private final ObjectProvider<UserDetailsCache> cache;
+
+    public UserCacheEviction(ObjectProvider<UserDetailsCache> cache) {
+        this.cache = cache;
+    }
+
+    @PostLoad
+    public void lembrarUsername(User user) {
+        user.setUsernameGravado(user.getUsername());
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        Set<String> usernames = new HashSet<>(2);
+        usernames.add(user.getUsername());
+        if (user.getUsernameGravado() != null) usernames.add(user.getUsernameGravado());
+        user.setUsernameGravado(user.getUsername());
+
+        cache.ifAvailable(c -> depoisDoCommit(() -> usernames.forEach(c::evict)));
+    }
+
+    private static void depoisDoCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.papillon.eventos.auth.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache dos UserDetails carregados do banco, por username.
+ * LRU limitado em número de entradas e com validade (app.auth.cache.ttl-segundos); quem altera um usuário
+ * chama evict (ver UserCacheEviction), o TTL só cobre alterações feitas por fora da aplicação.
+ */
+@Component
+public class UserDetailsCache {
+
+    private record Entrada(UserDetails user, long expiraEm) {}
+
+    private final int maxEntradas;
+    private final long ttlNanos;
+    private final LongSupplier relogio;
+    private final LinkedHashMap<String, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    // muda a cada evict: um carregamento que começou antes do evict não volta para o cache
+    private long geracao;
+
+    @Autowired
+    public UserDetailsCache(@Value("${app.auth.cache.max-entradas:1000}") int maxEntradas,
+                            @Value("${app.auth.cache.ttl-segundos:300}") long ttlSegundos) {
+        this(maxEntradas, ttlSegundos, System::nanoTime);
+    }
+
+    // relógio em nanos, trocável nos testes
+    public UserDetailsCache(int maxEntradas, long ttlSegundos, LongSupplier relogio) {
+        this.maxEntradas = maxEntradas;
+        this.ttlNanos = ttlSegundos * 1_000_000_000L;
+        this.relogio = relogio;
+    }
+
+    // o carregamento fica fora do lock: dois pedidos simultâneos do mesmo usuário podem consultar o banco os dois
+    public UserDetails get(String username, Function<String, UserDetails> carregar) {
+        long agora = relogio.getAsLong();
+        long geracaoInicial;
+        synchronized (this) {
+            geracaoInicial = geracao;
+            Entrada e = entradas.get(username);
+            if (e != null) {
+                if (e.expiraEm() - agora > 0) return e.user();
+                entradas.remove(username);
+            }
+        }
+        UserDetails user = carregar.apply(username);
+        synchronized (this) {
+            if (geracao != geracaoInicial) return user;
+            entradas.put(username, new Entrada(user, agora + ttlNanos));
+            Iterator<Map.Entry<String, Entrada>> it = entradas.entrySet().iterator();
+            while (entradas.size() > maxEntradas && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        return user;
+    }
+
+    public synchronized void evict(String username) {
+        geracao++;
+        entradas.remove(username);
+    }
+
+    public synchronized void clear() {
+        geracao++;
+        entradas.clear();
+    }
+
+    synchronized int size() {
+        return entradas.size();
+    }
+}
@@ -3,34 +3,25 @@ package br.com.papillon.eventos.cardapios.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Entity
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Cardapio {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cardapio_seq")
+    @SequenceGenerator(name = "cardapio_seq", sequenceName = "cardapio_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
     private String nome;
 
     @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "cardapio_id", nullable = false) 
+    @JoinColumn(name = "cardapio_id", nullable = false, updatable = false) // o insert do item já grava a FK
+    @BatchSize(size = 50)
     private List<Item> itens;
 
-    public Cardapio(Cardapio original) {
-        this.nome = original.getNome();
-        this.itens = original.getItens().stream()
-            .map(item -> Item.builder()
-                .nome(item.getNome())
-                .tipo(item.getTipo())
-                .build())
-            .collect(Collectors.toList());
-    }
-
-
 }
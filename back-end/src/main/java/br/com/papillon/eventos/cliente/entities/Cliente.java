@@ -4,7 +4,10 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -15,6 +18,8 @@ import lombok.NoArgsConstructor;
 
 import br.com.papillon.eventos.cliente.dtos.ClienteDto;
 
+import java.util.Locale;
+
 @Entity
 @Table(name = "clientes")
 @Data
@@ -24,7 +29,8 @@ import br.com.papillon.eventos.cliente.dtos.ClienteDto;
 public class Cliente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_seq")
+    @SequenceGenerator(name = "clientes_seq", sequenceName = "clientes_seq", allocationSize = 50)
     private Long id;
 
     @Size(max = 100)
@@ -47,7 +53,19 @@ public class Cliente {
     public Cliente(ClienteDto dto) {
         this.nome = dto.nome();
         this.email = dto.email();
-        this.cpfCnpj = dto.cpfCnpj();
+        this.cpfCnpj = normalizarCpfCnpj(dto.cpfCnpj());
         this.telefone = dto.telefone();
     }
+
+    @PrePersist
+    @PreUpdate
+    private void normalizar() {
+        this.cpfCnpj = normalizarCpfCnpj(this.cpfCnpj);
+    }
+
+    // "123.456.789-00" e "12345678900" são o mesmo cliente: guarda só letras e dígitos (o CNPJ alfanumérico
+    // tem letras), em maiúsculas, para o índice único de cpf_cnpj valer de verdade
+    public static String normalizarCpfCnpj(String cpfCnpj) {
+        return cpfCnpj == null ? null : cpfCnpj.replaceAll("[^0-9A-Za-z]", "").toUpperCase(Locale.ROOT);
+    }
 }
@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import br.com.papillon.eventos.cliente.entities.Cliente;
 
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+public interface ClienteRepository extends JpaRepository<Cliente, Long>, ClienteRepositoryCustom {
     boolean existsByCpfCnpj(String cpfCnpj);
     Optional<Cliente> findByCpfCnpj(String cpfCnpj);
 }
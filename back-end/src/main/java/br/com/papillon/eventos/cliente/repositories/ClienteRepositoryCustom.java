@@ -0,0 +1,9 @@
+package br.com.papillon.eventos.cliente.repositories;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+
+public interface ClienteRepositoryCustom {
+
+    // devolve o cliente com esse cpfCnpj, criando-o se não existir; seguro com chamadas concorrentes
+    Cliente upsertByCpfCnpj(Cliente cliente);
+}
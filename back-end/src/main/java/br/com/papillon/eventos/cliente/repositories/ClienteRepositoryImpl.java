@@ -0,0 +1,68 @@
+package br.com.papillon.eventos.cliente.repositories;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+/**
+ * Upsert por cpf_cnpj: INSERT ... ON CONFLICT DO NOTHING e depois o SELECT da linha, que é a recém-criada ou a que
+ * já estava lá; os dados de quem já é cliente continuam os do cadastro. O mesmo SQL roda no Postgres e no H2 em modo
+ * PostgreSQL dos testes, que só aceita o ON CONFLICT sem alvo; basta, porque o id vem da sequence e a única outra
+ * unique da tabela é a de cpf_cnpj. Se outra transação gravou o mesmo cpf_cnpj e ainda não commitou, o INSERT espera
+ * por ela, então em READ COMMITTED o SELECT seguinte já enxerga a linha.
+ * O id sai direto da sequence: cada valor dela é o topo de um bloco do otimizador pooled do Hibernate, então
+ * usá-lo sozinho não colide com os blocos que o Hibernate reserva.
+ * São duas idas ao banco (o INSERT e o SELECT), não um upsert de uma instrução só: o RETURNING do Postgres não
+ * devolve a linha que já existia. Como o ON CONFLICT sem alvo engole qualquer unique, inclusive a do id (com a
+ * clientes_seq atrás do maior id), 0 linhas inseridas sem linha com o cpf_cnpj vira erro explícito.
+ */
+class ClienteRepositoryImpl implements ClienteRepositoryCustom {
+
+    private static final String INSERT_SE_NAO_EXISTE = """
+            insert into clientes (id, nome, email, cpf_cnpj, telefone)
+            values (nextval('clientes_seq'), :nome, :email, :cpfCnpj, :telefone)
+            on conflict do nothing
+            """;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // o insert nativo não passa pela validação que o persist faria
+    @Autowired
+    private Validator validator;
+
+    @Override
+    @Transactional
+    public Cliente upsertByCpfCnpj(Cliente cliente) {
+        Set<ConstraintViolation<Cliente>> violacoes = validator.validate(cliente);
+        if (!violacoes.isEmpty()) {
+            throw new ConstraintViolationException(violacoes);
+        }
+
+        int inseridas = em.createNativeQuery(INSERT_SE_NAO_EXISTE)
+                .setParameter("nome", cliente.getNome())
+                .setParameter("email", cliente.getEmail())
+                .setParameter("cpfCnpj", cliente.getCpfCnpj())
+                .setParameter("telefone", cliente.getTelefone())
+                .executeUpdate();
+        List<Cliente> linha = em.createQuery("select c from Cliente c where c.cpfCnpj = :cpfCnpj", Cliente.class)
+                .setParameter("cpfCnpj", cliente.getCpfCnpj())
+                .getResultList();
+        if (inseridas == 0 && linha.isEmpty()) {
+            throw new DataIntegrityViolationException("Cliente com CPF/CNPJ '" + cliente.getCpfCnpj()
+                    + "' não foi gravado: o INSERT conflitou com outra chave única, provavelmente o id "
+                    + "(clientes_seq atrás do maior id)");
+        }
+        return linha.get(0);
+    }
+}
@@ -25,7 +25,7 @@ public class ClienteService {
     private EventoService eventoService;
 
     public Cliente registerCliente(ClienteDto clienteDto) {
-        if (clienteRepository.existsByCpfCnpj(clienteDto.cpfCnpj())) {
+        if (clienteRepository.existsByCpfCnpj(Cliente.normalizarCpfCnpj(clienteDto.cpfCnpj()))) {
             throw new ClienteAlreadyExistsException(clienteDto.cpfCnpj());
         }
         Cliente novoCliente = new Cliente(clienteDto);
@@ -69,8 +69,8 @@ public class ClienteService {
         clienteRepository.deleteById(id);
     }
 
+    // upsert atômico: pedidos simultâneos do mesmo cliente não estouram a unique de cpf_cnpj
     public Cliente getByCpfCnpjOrCreate(ClienteDto dto) {
-        return clienteRepository.findByCpfCnpj(dto.cpfCnpj())
-                .orElseGet(() -> clienteRepository.save(new Cliente(dto)));
+        return clienteRepository.upsertByCpfCnpj(new Cliente(dto));
     }
 }
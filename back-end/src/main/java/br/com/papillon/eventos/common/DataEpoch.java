@@ -0,0 +1,45 @@
+package br.com.papillon.eventos.common;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+/**
+ * Meia-noite de uma data em epoch millis num fuso, o mesmo valor de Timestamp.valueOf(data.atStartOfDay()).getTime()
+ * (que usa o fuso padrão da JVM). Fora das datas com mudança de offset o cálculo é direto, sem alocar nada;
+ * perto de uma transição (horário de verão) usa o java.time.
+ * millis(data) usa o fuso padrão lido na inicialização da classe.
+ */
+public final class DataEpoch {
+
+    private static final DataEpoch PADRAO = new DataEpoch(ZoneId.systemDefault());
+    private static final long SEGUNDOS_POR_DIA = 86_400;
+
+    private final ZoneId zona;
+    private final ZoneRules regras;
+
+    public DataEpoch(ZoneId zona) {
+        this.zona = zona;
+        this.regras = zona.getRules();
+    }
+
+    public static long millis(LocalDate data) {
+        return PADRAO.paraMillis(data);
+    }
+
+    public long paraMillis(LocalDate data) {
+        long meiaNoite = data.toEpochDay() * SEGUNDOS_POR_DIA;
+        if (regras.isFixedOffset()) {
+            return (meiaNoite - regras.getOffset(Instant.EPOCH).getTotalSeconds()) * 1000;
+        }
+        // mesmo offset um dia antes e um dia depois: não há transição perto desta meia-noite
+        int antes = regras.getOffset(Instant.ofEpochSecond(meiaNoite - SEGUNDOS_POR_DIA)).getTotalSeconds();
+        int depois = regras.getOffset(Instant.ofEpochSecond(meiaNoite + SEGUNDOS_POR_DIA)).getTotalSeconds();
+        if (antes == depois) {
+            return (meiaNoite - antes) * 1000;
+        }
+        // meia-noite repetida (fim do horário de verão): o Timestamp fica com o offset de depois da transição
+        return data.atStartOfDay(zona).withLaterOffsetAtOverlap().toEpochSecond() * 1000;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.papillon.eventos.common.export;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final MediaType mediaType;
+    private final String extensao;
+
+    ExportFormat(String mediaType, String extensao) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extensao = extensao;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.papillon.eventos.common.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Laço comum das exportações: lê o Stream do repositório linha a linha, escreve cada uma pelo ExportWriter e
+ * limpa o contexto de persistência a cada LIMPAR_A_CADA linhas para o heap não crescer com a tabela.
+ * O Stream tem de ser aberto e consumido dentro da transação de quem chama, que mantém o cursor aberto.
+ */
+@Component
+public class ExportStreamer {
+
+    // fetch size das queries de exportação (@QueryHint), igual ao lote de limpeza do contexto
+    public static final String FETCH_SIZE = "500";
+    static final int LIMPAR_A_CADA = Integer.parseInt(FETCH_SIZE);
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public ExportStreamer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /** Fecha o Stream no fim; {@code valores} devolve os valores de uma linha na ordem de {@code colunas}. */
+    public <T> void exportar(Stream<T> linhas, OutputStream out, ExportFormat formato,
+                             Function<T, Object[]> valores, String... colunas) throws IOException {
+        try (linhas; ExportWriter writer = new ExportWriter(out, formato, objectMapper, colunas)) {
+            int escritas = 0;
+            for (Iterator<T> it = linhas.iterator(); it.hasNext(); ) {
+                writer.write(valores.apply(it.next()));
+                if (++escritas % LIMPAR_A_CADA == 0) {
+                    em.clear();
+                    writer.flush();
+                }
+            }
+        }
+    }
+}
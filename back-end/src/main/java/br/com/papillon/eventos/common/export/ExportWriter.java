@@ -0,0 +1,87 @@
+package br.com.papillon.eventos.common.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Escreve uma linha por vez (NDJSON ou CSV) direto no stream de saída,
+ * sem acumular o resultado em memória.
+ */
+public class ExportWriter implements AutoCloseable {
+
+    private final ExportFormat formato;
+    private final String[] colunas;
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    public ExportWriter(OutputStream out, ExportFormat formato, ObjectMapper mapper, String... colunas)
+            throws IOException {
+        this.formato = formato;
+        this.colunas = colunas;
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        if (formato == ExportFormat.NDJSON) {
+            this.json = mapper.getFactory().createGenerator(writer);
+            this.json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            this.json.setRootValueSeparator(null); // o separador entre objetos é o '\n'
+        } else {
+            this.json = null;
+            escreverCsv((Object[]) colunas);
+        }
+    }
+
+    public void write(Object... valores) throws IOException {
+        if (valores.length != colunas.length) {
+            throw new IllegalArgumentException("Esperado " + colunas.length + " valores, recebido " + valores.length);
+        }
+        if (formato == ExportFormat.NDJSON) {
+            json.writeStartObject();
+            for (int i = 0; i < colunas.length; i++) {
+                json.writeFieldName(colunas[i]);
+                json.writeObject(valores[i] == null ? null : valorJson(valores[i]));
+            }
+            json.writeEndObject();
+            json.flush();
+            writer.write('\n');
+        } else {
+            escreverCsv(valores);
+        }
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) json.close();
+        writer.flush();
+    }
+
+    private Object valorJson(Object valor) {
+        // datas saem como ISO-8601 nos dois formatos
+        return valor instanceof TemporalAccessor ? valor.toString() : valor;
+    }
+
+    private void escreverCsv(Object... valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) writer.write(',');
+            if (valores[i] != null) writer.write(escaparCsv(valores[i].toString()));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escaparCsv(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0
+                && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.papillon.eventos.common.metricas;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores do Hibernate do pedido HTTP em andamento na thread atual (statements JDBC, tempo gasto executando
+ * SQL, entidades carregadas, coleções buscadas e quantas vezes cada SQL se repetiu). Quem abre e fecha é o
+ * MetricasPorPedidoFilter; quem incrementa são o EstatisticasPorPedido, o TempoDeSqlListener e o
+ * SqlPorPedidoInspector, criados pelo próprio Hibernate e por isso sem acesso a beans do Spring.
+ * Fora de um pedido (jobs, testes, trabalho assíncrono) não há contagem e os incrementos são ignorados.
+ */
+public final class ContagemPorPedido {
+
+    // SQLs distintos guardados por pedido; um pedido que gera mais que isso já aparece pelos outros números
+    private static final int MAX_SQLS_DISTINTOS = 256;
+
+    private static final ThreadLocal<ContagemPorPedido> ATUAL = new ThreadLocal<>();
+
+    private long statements;
+    private long nanosSql;
+    private long entidades;
+    private long colecoes;
+    private final Map<String, Integer> porSql = new HashMap<>();
+
+    private ContagemPorPedido() {
+    }
+
+    public static ContagemPorPedido iniciar() {
+        ContagemPorPedido c = new ContagemPorPedido();
+        ATUAL.set(c);
+        return c;
+    }
+
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+
+    static void statement() {
+        ContagemPorPedido c = ATUAL.get();
+        if (c != null) c.statements++;
+    }
+
+    static void execucao(long nanos) {
+        ContagemPorPedido c = ATUAL.get();
+        if (c != null) c.nanosSql += nanos;
+    }
+
+    static void sql(String sql) {
+        ContagemPorPedido c = ATUAL.get();
+        if (c != null && (c.porSql.size() < MAX_SQLS_DISTINTOS || c.porSql.containsKey(sql))) {
+            c.porSql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void entidade() {
+        ContagemPorPedido c = ATUAL.get();
+        if (c != null) c.entidades++;
+    }
+
+    static void colecao() {
+        ContagemPorPedido c = ATUAL.get();
+        if (c != null) c.colecoes++;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getNanosSql() {
+        return nanosSql;
+    }
+
+    public long getEntidades() {
+        return entidades;
+    }
+
+    public long getColecoes() {
+        return colecoes;
+    }
+
+    /** O SQL que mais se repetiu no pedido, com o número de vezes; null se o pedido não foi ao banco. */
+    public Map.Entry<String, Integer> getMaisRepetido() {
+        Map.Entry<String, Integer> pior = null;
+        for (Map.Entry<String, Integer> e : porSql.entrySet()) {
+            if (pior == null || e.getValue() > pior.getValue()) pior = e;
+        }
+        return pior;
+    }
+}
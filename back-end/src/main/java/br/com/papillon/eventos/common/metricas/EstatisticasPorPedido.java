@@ -0,0 +1,43 @@
+package br.com.papillon.eventos.common.metricas;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Estatísticas do Hibernate (hibernate.stats.factory) que, além dos totais globais expostos pelo
+ * hibernate-micrometer, contam statements, carregamentos de entidade e buscas de coleção do pedido atual.
+ * Só recebe chamadas com hibernate.generate_statistics=true.
+ */
+public class EstatisticasPorPedido extends StatisticsImpl {
+
+    public static class Factory implements StatisticsFactory {
+        @Override
+        public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+            return new EstatisticasPorPedido(sessionFactory);
+        }
+    }
+
+    public EstatisticasPorPedido(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        ContagemPorPedido.statement();
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        ContagemPorPedido.entidade();
+    }
+
+    @Override
+    public void fetchCollection(String role) {
+        super.fetchCollection(role);
+        ContagemPorPedido.colecao();
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.papillon.eventos.common.metricas;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricasConfig {
+
+    // @Timed nos services (EventoService, OrcamentoService): um timer por classe, com a tag method
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // antes da cadeia do Spring Security, para contar também o que o JwtFilter consulta no modo CACHE
+    @Bean
+    public FilterRegistrationBean<MetricasPorPedidoFilter> metricasPorPedidoFilter(
+            MeterRegistry registry, SqlPorEndpoint sqlPorEndpoint) {
+        FilterRegistrationBean<MetricasPorPedidoFilter> reg = new FilterRegistrationBean<>(
+                new MetricasPorPedidoFilter(registry, sqlPorEndpoint));
+        reg.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return reg;
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.papillon.eventos.common.metricas;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Registra, por pedido, quantos statements JDBC, entidades e coleções o Hibernate usou e quanto tempo passou
+ * executando SQL (hibernate.pedido.statements/entidades/colecoes/sql), com as mesmas tags method/uri do
+ * http.server.requests, e repassa o pedido ao SqlPorEndpoint (ranking e limite por pedido).
+ * Só conta o que roda na thread do pedido: o corpo de um StreamingResponseBody fica de fora.
+ */
+public class MetricasPorPedidoFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final SqlPorEndpoint sqlPorEndpoint;
+
+    public MetricasPorPedidoFilter(MeterRegistry registry, SqlPorEndpoint sqlPorEndpoint) {
+        this.registry = registry;
+        this.sqlPorEndpoint = sqlPorEndpoint;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        ContagemPorPedido contagem = ContagemPorPedido.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ContagemPorPedido.encerrar();
+            registrar(request, contagem);
+        }
+    }
+
+    private void registrar(HttpServletRequest request, ContagemPorPedido contagem) {
+        // padrão do mapeamento (/api/eventos/{id}), não a URL: uma série por endpoint
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+        String metodo = request.getMethod();
+
+        resumo("hibernate.pedido.statements", "Statements JDBC por pedido", metodo, uri)
+                .record(contagem.getStatements());
+        resumo("hibernate.pedido.entidades", "Entidades carregadas do banco por pedido", metodo, uri)
+                .record(contagem.getEntidades());
+        resumo("hibernate.pedido.colecoes", "Coleções buscadas do banco por pedido", metodo, uri)
+                .record(contagem.getColecoes());
+        Timer.builder("hibernate.pedido.sql")
+                .description("Tempo executando SQL por pedido")
+                .tag("method", metodo)
+                .tag("uri", uri)
+                .register(registry)
+                .record(contagem.getNanosSql(), TimeUnit.NANOSECONDS);
+
+        sqlPorEndpoint.registrar(metodo, uri, contagem);
+    }
+
+    private DistributionSummary resumo(String nome, String descricao, String metodo, String uri) {
+        return DistributionSummary.builder(nome)
+                .description(descricao)
+                .tag("method", metodo)
+                .tag("uri", uri)
+                .register(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.papillon.eventos.common.metricas;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/sql no servidor de gerenciamento (127.0.0.1): endpoints ordenados por tempo total de SQL.
+ * GET ?limite=N devolve os N piores (padrão 20); DELETE zera o acumulado.
+ */
+@Component
+@Endpoint(id = "sql")
+public class SqlEndpoint {
+
+    private final SqlPorEndpoint sqlPorEndpoint;
+
+    public SqlEndpoint(SqlPorEndpoint sqlPorEndpoint) {
+        this.sqlPorEndpoint = sqlPorEndpoint;
+    }
+
+    @ReadOperation
+    public List<SqlPorEndpoint.Resumo> piores(@Nullable Integer limite) {
+        return sqlPorEndpoint.piores(limite != null ? limite : 20);
+    }
+
+    @DeleteOperation
+    public void limpar() {
+        sqlPorEndpoint.limpar();
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.papillon.eventos.common.metricas;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * SQL acumulado por endpoint (método + padrão da uri) desde a subida ou o último limpar, para o ranking do
+ * SqlEndpoint, e o limite por pedido (app.sql.por-pedido.*): um pedido acima de qualquer um dos limites é logado
+ * em WARN com o SQL que mais se repetiu e contado em hibernate.pedido.acima_do_limite.
+ */
+@Component
+public class SqlPorEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlPorEndpoint.class);
+
+    public record Resumo(String endpoint, long pedidos, long statements, long tempoTotalMs, long tempoMaximoMs,
+                         long acimaDoLimite) {}
+
+    private static class Acumulado {
+        final LongAdder pedidos = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator maximoNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder acimaDoLimite = new LongAdder();
+    }
+
+    private final MeterRegistry registry;
+    private final long maxStatements;
+    private final long maxNanos;
+    // as chaves são padrões de mapeamento (ou UNKNOWN): o mapa não cresce com as URLs
+    private final Map<String, Acumulado> porEndpoint = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SqlPorEndpoint(MeterRegistry registry,
+                          @Value("${app.sql.por-pedido.max-statements:30}") long maxStatements,
+                          @Value("${app.sql.por-pedido.max-ms:250}") long maxMs) {
+        this.registry = registry;
+        this.maxStatements = maxStatements;
+        this.maxNanos = TimeUnit.MILLISECONDS.toNanos(maxMs);
+    }
+
+    public void registrar(String metodo, String uri, ContagemPorPedido contagem) {
+        String endpoint = metodo + " " + uri;
+        Acumulado a = porEndpoint.computeIfAbsent(endpoint, e -> new Acumulado());
+        a.pedidos.increment();
+        a.statements.add(contagem.getStatements());
+        a.nanos.add(contagem.getNanosSql());
+        a.maximoNanos.accumulate(contagem.getNanosSql());
+
+        if (contagem.getStatements() > maxStatements || contagem.getNanosSql() > maxNanos) {
+            a.acimaDoLimite.increment();
+            Counter.builder("hibernate.pedido.acima_do_limite")
+                    .description("Pedidos acima do limite de statements ou de tempo de SQL")
+                    .tag("method", metodo)
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+            Map.Entry<String, Integer> repetido = contagem.getMaisRepetido();
+            log.warn("{}: {} statements e {} ms de SQL (limite {} statements / {} ms); mais repetido ({}x): {}",
+                    endpoint, contagem.getStatements(), TimeUnit.NANOSECONDS.toMillis(contagem.getNanosSql()),
+                    maxStatements, TimeUnit.NANOSECONDS.toMillis(maxNanos),
+                    repetido != null ? repetido.getValue() : 0, repetido != null ? repetido.getKey() : "-");
+        }
+    }
+
+    /** Os endpoints com mais tempo total de SQL, do pior para o melhor. */
+    public List<Resumo> piores(int limite) {
+        return porEndpoint.entrySet().stream()
+                .map(e -> resumo(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingLong(Resumo::tempoTotalMs).reversed()
+                        .thenComparing(Comparator.comparingLong(Resumo::statements).reversed()))
+                .limit(limite)
+                .toList();
+    }
+
+    public void limpar() {
+        porEndpoint.clear();
+    }
+
+    private static Resumo resumo(String endpoint, Acumulado a) {
+        return new Resumo(endpoint, a.pedidos.sum(), a.statements.sum(),
+                TimeUnit.NANOSECONDS.toMillis(a.nanos.sum()), TimeUnit.NANOSECONDS.toMillis(a.maximoNanos.get()),
+                a.acimaDoLimite.sum());
+    }
+}
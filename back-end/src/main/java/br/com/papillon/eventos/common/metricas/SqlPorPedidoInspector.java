@@ -0,0 +1,16 @@
+package br.com.papillon.eventos.common.metricas;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * StatementInspector (hibernate.session_factory.statement_inspector) que só observa: conta quantas vezes cada
+ * SQL aparece no pedido atual, para o log de pedidos acima do limite apontar o statement repetido (N+1).
+ */
+public class SqlPorPedidoInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        ContagemPorPedido.sql(sql);
+        return sql;
+    }
+}
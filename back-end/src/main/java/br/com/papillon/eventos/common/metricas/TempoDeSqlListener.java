@@ -0,0 +1,32 @@
+package br.com.papillon.eventos.common.metricas;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Listener de sessão (hibernate.session.events.auto, uma instância por sessão) que mede cada execução JDBC,
+ * consulta ou lote, e soma o tempo no ContagemPorPedido do pedido atual.
+ */
+public class TempoDeSqlListener implements SessionEventListener {
+
+    private long inicio;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ContagemPorPedido.execucao(System.nanoTime() - inicio);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        ContagemPorPedido.execucao(System.nanoTime() - inicio);
+    }
+}
@@ -1,15 +1,22 @@
 package br.com.papillon.eventos.evento.controllers;
 
+import br.com.papillon.eventos.common.export.ExportFormat;
 import br.com.papillon.eventos.evento.dtos.EventoCreateDto;
+import br.com.papillon.eventos.evento.dtos.EventoPageDto;
 import br.com.papillon.eventos.evento.dtos.EventoShowDto;
+import br.com.papillon.eventos.evento.services.EventoExportService;
 import br.com.papillon.eventos.evento.services.EventoService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/evento")
@@ -18,6 +25,9 @@ public class EventoController {
     @Autowired
     private EventoService eventoService;
 
+    @Autowired
+    private EventoExportService eventoExportService;
+
     @PostMapping
     public ResponseEntity<EventoShowDto> createEvento(
             @RequestBody @Valid EventoCreateDto eventoDto
@@ -34,6 +44,31 @@ public class EventoController {
         return ResponseEntity.ok(lista);
     }
 
+    // GET /api/evento/page — lista paginada por cursor, com filtros opcionais
+    @GetMapping("/page")
+    public ResponseEntity<EventoPageDto> listEventosPage(
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long clienteId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim
+    ) {
+        EventoPageDto pagina = eventoService.listEventosPage(size, pageToken, status, clienteId, dataInicio, dataFim);
+        return ResponseEntity.ok(pagina);
+    }
+
+    // GET /api/evento/export?formato=CSV — histórico completo, escrito enquanto é lido do banco
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEventos(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat formato) {
+        StreamingResponseBody body = out -> eventoExportService.exportar(out, formato);
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=eventos." + formato.getExtensao())
+                .contentType(formato.getMediaType())
+                .body(body);
+    }
+
     // GET /api/eventos/{id} — busca um evento por ID
     @GetMapping("/{id}")
     public ResponseEntity<EventoShowDto> getEventoById(@PathVariable Long id) {
@@ -57,6 +92,14 @@ public class EventoController {
         return ResponseEntity.noContent().build();
     }
 
+    // POST /api/evento/financeiro/reconciliar — recalcula gastos/lucro de todos os eventos
+    @PostMapping("/financeiro/reconciliar")
+    public ResponseEntity<Map<String, Integer>> reconciliarFinanceiro(
+            @RequestParam(defaultValue = "500") int lote) {
+        int total = eventoService.reconciliarFinanceiro(lote);
+        return ResponseEntity.ok(Map.of("eventosReconciliados", total));
+    }
+
     @PatchMapping("/{id}/status/{novoStatus}")
     public ResponseEntity<Void> atualizarStatusEventoViaPath(
             @PathVariable Long id,
@@ -0,0 +1,38 @@
+package br.com.papillon.eventos.evento.dtos;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import br.com.papillon.eventos.evento.exception.InvalidPageTokenException;
+
+// posição (data, id) do último evento entregue, serializada como token opaco
+public record EventoCursor(
+        LocalDate data,
+        Long id
+) {
+    public EventoCursor(EventoRowDto r) {
+        this(r.data(), r.id());
+    }
+
+    public String encode() {
+        String raw = data + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            if (sep < 0) throw new InvalidPageTokenException(token);
+            return new EventoCursor(
+                    LocalDate.parse(raw.substring(0, sep)),
+                    Long.valueOf(raw.substring(sep + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPageTokenException(token);
+        }
+    }
+}
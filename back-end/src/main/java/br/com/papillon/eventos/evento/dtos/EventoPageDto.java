@@ -0,0 +1,10 @@
+package br.com.papillon.eventos.evento.dtos;
+
+import java.util.List;
+
+// página da listagem por keyset; nextPageToken é null na última página
+public record EventoPageDto(
+        List<EventoShowDto> eventos,
+        String nextPageToken
+) {
+}
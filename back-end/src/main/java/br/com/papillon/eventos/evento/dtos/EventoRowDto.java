@@ -0,0 +1,22 @@
+package br.com.papillon.eventos.evento.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// linha achatada de evento + cliente, preenchida direto pela query (sem montar a entidade)
+public record EventoRowDto(
+        Long id,
+        String nome,
+        Long clienteId,
+        String clienteNome,
+        String clienteEmail,
+        String clienteCpfCnpj,
+        String clienteTelefone,
+        LocalDate data,
+        BigDecimal valor,
+        BigDecimal gastos,
+        BigDecimal lucro,
+        String status,
+        int qtdPessoas
+) {
+}
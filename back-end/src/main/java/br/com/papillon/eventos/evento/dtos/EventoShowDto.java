@@ -1,12 +1,15 @@
 package br.com.papillon.eventos.evento.dtos;
 
 import br.com.papillon.eventos.cliente.dtos.ClienteDto;
+import br.com.papillon.eventos.common.DataEpoch;
 import br.com.papillon.eventos.insumos.dtos.InsumoDto;
 import br.com.papillon.eventos.evento.entities.Evento;
 
 import java.math.BigDecimal;
-import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public record EventoShowDto(
         Long id,
@@ -25,13 +28,50 @@ public record EventoShowDto(
                 e.getId(),
                 e.getNome(),
                 new ClienteDto(e.getCliente()),
-                Timestamp.valueOf(e.getData().atStartOfDay()).getTime(),
+                DataEpoch.millis(e.getData()),
                 e.getValor(),
                 e.getGastos(),
                 e.getLucro(),
-                e.getInsumos().stream().map(InsumoDto::new).toList(),
+                insumos(e),
                 e.getStatus(),
                 e.getQtdPessoas()
         );
     }
-}
\ No newline at end of file
+
+    public EventoShowDto(EventoRowDto r, List<InsumoDto> insumos) {
+        this(
+                r.id(),
+                r.nome(),
+                new ClienteDto(r.clienteId(), r.clienteNome(), r.clienteEmail(),
+                        r.clienteCpfCnpj(), r.clienteTelefone()),
+                DataEpoch.millis(r.data()),
+                r.valor(),
+                r.gastos(),
+                r.lucro(),
+                insumos,
+                r.status(),
+                r.qtdPessoas()
+        );
+    }
+
+    // junta cada linha aos insumos do seu evento (vindos de uma query só para a página toda);
+    // laços com listas pré-dimensionadas em vez de streams: é o caminho de todas as listagens (ver DtoMapeamentoBenchmark)
+    public static List<EventoShowDto> comInsumos(List<EventoRowDto> linhas, List<InsumoDto> insumos) {
+        Map<Long, List<InsumoDto>> insumosPorEvento = new HashMap<>(linhas.size() * 4 / 3 + 1);
+        for (InsumoDto i : insumos) {
+            insumosPorEvento.computeIfAbsent(i.eventoId(), id -> new ArrayList<>()).add(i);
+        }
+
+        List<EventoShowDto> dtos = new ArrayList<>(linhas.size());
+        for (EventoRowDto r : linhas) {
+            dtos.add(new EventoShowDto(r, insumosPorEvento.getOrDefault(r.id(), List.of())));
+        }
+        return dtos;
+    }
+
+    private static List<InsumoDto> insumos(Evento e) {
+        List<InsumoDto> dtos = new ArrayList<>(e.getInsumos().size());
+        for (var i : e.getInsumos()) dtos.add(new InsumoDto(i));
+        return dtos;
+    }
+}
@@ -11,6 +11,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,18 +21,28 @@ import java.util.List;
 
 @Entity
 @Table(name = "evento")
+@DynamicUpdate // gastos/lucro são mantidos por updates de delta; não sobrescrever com o valor em memória
+@NamedEntityGraph(name = Evento.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("cliente"),
+        @NamedAttributeNode("insumos")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Evento {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // perfis de carga: a listagem usa projeções (EventoRepository), o detalhe usa este grafo
+    public static final String GRAPH_DETAIL = "Evento.detail";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evento_seq")
+    @SequenceGenerator(name = "evento_seq", sequenceName = "evento_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
 
-    @ManyToOne(optional = false, fetch = FetchType.EAGER)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "cliente_id")
     private Cliente cliente;
 
@@ -50,16 +62,19 @@ public class Evento {
     @OneToMany(mappedBy = "evento",
             cascade = CascadeType.ALL,
             orphanRemoval = true,
-            fetch = FetchType.EAGER)
+            fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @JsonIgnoreProperties("evento")
     private List<Insumo> insumos = new ArrayList<>();
 
     @OneToMany(cascade = CascadeType.ALL)
     @JoinColumn(name = "evento_id", nullable = true) 
+    @BatchSize(size = 50)
     private List<Cardapio> cardapios;
 
     @OneToMany(cascade = CascadeType.ALL)
     @JoinColumn(name = "evento_id", nullable = true)
+    @BatchSize(size = 50)
     private List<Funcionario> funcionarios;
 
     // Construtor para criação a partir do DTO
@@ -69,38 +84,9 @@ public class Evento {
         this.data     = dto.data();
         this.valor    = dto.valor();
         this.gastos   = BigDecimal.ZERO;
-        this.lucro    = BigDecimal.ZERO;
+        this.lucro    = dto.valor();
         this.status   = dto.status(); 
         // insumos e funcionarios já instanciados como lista vazia
     }
 
-//    @PrePersist @PreUpdate
-//    private void recalcularFinanceiro() {
-//        BigDecimal totalInsumos = insumos == null
-//                ? BigDecimal.ZERO
-//                : insumos.stream()
-//                .map(Insumo::getValor)
-//                .reduce(BigDecimal.ZERO, BigDecimal::add);
-//
-//        BigDecimal totalFuncionarios = funcionarios == null
-//                ? BigDecimal.ZERO
-//                : funcionarios.stream()
-//                .map(Funcionario::getValor)
-//                .reduce(BigDecimal.ZERO, BigDecimal::add);
-//
-//        this.gastos = totalInsumos.add(totalFuncionarios);
-//        this.lucro  = this.valor.subtract(this.gastos);
-//    }
-
-    public void recalcularGastosELucro(Evento evento) {
-        BigDecimal somaInsumos = evento.getInsumos().stream()
-                .map(i -> i.getValor())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal lucro = evento.getValor().subtract(gastos);
-
-        evento.setGastos(gastos);
-        evento.setLucro(lucro);
-    }
-
 }
@@ -0,0 +1,11 @@
+package br.com.papillon.eventos.evento.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPageTokenException extends RuntimeException {
+    public InvalidPageTokenException(String token) {
+        super("Token de página inválido: " + token);
+    }
+}
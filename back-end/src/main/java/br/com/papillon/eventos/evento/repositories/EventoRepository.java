@@ -1,13 +1,185 @@
 package br.com.papillon.eventos.evento.repositories;
 
+import br.com.papillon.eventos.common.export.ExportStreamer;
+import br.com.papillon.eventos.evento.dtos.EventoRowDto;
+import br.com.papillon.eventos.evento.dtos.EventoSimpleDto;
 import br.com.papillon.eventos.evento.entities.Evento;
+import br.com.papillon.eventos.insumos.dtos.InsumoDto;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 public interface EventoRepository extends JpaRepository<Evento, Long> {
-    Optional<Evento> findByClienteId(Long clienteId);
-    List<Evento> findAllByOrderByDataDesc();
-}
\ No newline at end of file
+
+    @EntityGraph(Evento.GRAPH_DETAIL)
+    Optional<Evento> findDetailById(Long id);
+    // exportação: cursor no servidor (fetch size) lido linha a linha; consumir dentro de uma transação
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportStreamer.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Evento e join fetch e.cliente order by e.id")
+    Stream<Evento> streamAllForExport();
+
+    // projeções: selecionam só as colunas dos DTOs, sem carregar cliente/insumos EAGER
+
+    @Query("""
+            select new br.com.papillon.eventos.evento.dtos.EventoSimpleDto(e.id, e.nome, e.data, e.status)
+            from Evento e
+            where e.cliente.id = :clienteId
+            order by e.data desc, e.id desc
+            """)
+    List<EventoSimpleDto> findSimplesByClienteId(@Param("clienteId") Long clienteId);
+
+    @Query("""
+            select new br.com.papillon.eventos.evento.dtos.EventoRowDto(
+                e.id, e.nome, c.id, c.nome, c.email, c.cpfCnpj, c.telefone,
+                e.data, e.valor, e.gastos, e.lucro, e.status, e.qtdPessoas)
+            from Evento e join e.cliente c
+            order by e.data desc, e.id desc
+            """)
+    List<EventoRowDto> findAllRowsOrderByDataDesc();
+
+    // listagem por keyset: (data, id) decrescente, a partir do último item da página anterior
+    @Query("""
+            select new br.com.papillon.eventos.evento.dtos.EventoRowDto(
+                e.id, e.nome, c.id, c.nome, c.email, c.cpfCnpj, c.telefone,
+                e.data, e.valor, e.gastos, e.lucro, e.status, e.qtdPessoas)
+            from Evento e join e.cliente c
+            where (:status is null or e.status = :status)
+              and (:clienteId is null or c.id = :clienteId)
+              and (:dataInicio is null or e.data >= :dataInicio)
+              and (:dataFim is null or e.data <= :dataFim)
+              and (:cursorData is null
+                   or e.data < :cursorData
+                   or (e.data = :cursorData and e.id < :cursorId))
+            order by e.data desc, e.id desc
+            """)
+    List<EventoRowDto> findPage(@Param("status") String status,
+                                @Param("clienteId") Long clienteId,
+                                @Param("dataInicio") LocalDate dataInicio,
+                                @Param("dataFim") LocalDate dataFim,
+                                @Param("cursorData") LocalDate cursorData,
+                                @Param("cursorId") Long cursorId,
+                                Limit limit);
+
+    @Query("""
+            select new br.com.papillon.eventos.insumos.dtos.InsumoDto(
+                i.id, i.nome, i.valor, i.metodoPagamento, i.evento.id)
+            from Insumo i
+            where i.evento.id in :eventoIds
+            order by i.id
+            """)
+    List<InsumoDto> findInsumosByEventoIds(@Param("eventoIds") Collection<Long> eventoIds);
+
+    // financeiro incremental: gastos/lucro são ajustados direto na linha do evento,
+    // sem carregar insumos nem funcionários
+
+    @Modifying
+    @Query("""
+            update Evento e
+            set e.gastos = coalesce(e.gastos, 0) + :delta,
+                e.lucro = e.valor - (coalesce(e.gastos, 0) + :delta)
+            where e.id = :id
+            """)
+    int aplicarDeltaGastos(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query(value = """
+            update evento
+            set gastos = coalesce(gastos, 0) + :delta,
+                lucro = valor - (coalesce(gastos, 0) + :delta)
+            where id = (select f.evento_id from funcionarios f where f.id = :funcionarioId)
+            """, nativeQuery = true)
+    int aplicarDeltaGastosPorFuncionario(@Param("funcionarioId") Long funcionarioId,
+                                         @Param("delta") BigDecimal delta);
+
+    // chamado antes do delete, enquanto a linha do funcionário ainda existe
+    @Modifying
+    @Query(value = """
+            update evento
+            set gastos = coalesce(gastos, 0) - (select f.valor from funcionarios f where f.id = :funcionarioId),
+                lucro = valor - (coalesce(gastos, 0) - (select f.valor from funcionarios f where f.id = :funcionarioId))
+            where id = (select f.evento_id from funcionarios f where f.id = :funcionarioId)
+            """, nativeQuery = true)
+    int descontarFuncionario(@Param("funcionarioId") Long funcionarioId);
+
+    // chamado antes do delete, enquanto a linha do insumo ainda existe
+    @Modifying
+    @Query(value = """
+            update evento
+            set gastos = coalesce(gastos, 0) - (select i.valor from insumos i where i.id = :insumoId),
+                lucro = valor - (coalesce(gastos, 0) - (select i.valor from insumos i where i.id = :insumoId))
+            where id = (select i.evento_id from insumos i where i.id = :insumoId)
+            """, nativeQuery = true)
+    int descontarInsumo(@Param("insumoId") Long insumoId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Evento e set e.lucro = e.valor - coalesce(e.gastos, 0) where e.id = :id")
+    int recalcularLucro(@Param("id") Long id);
+
+    // aceite do orçamento: o evento recebe cópias dos funcionários, cardápios e itens, um INSERT ... SELECT por
+    // tabela. Editar ou excluir as linhas do evento não mexe nas do orçamento aceito (nem no PDF da proposta).
+    // Os ids saem direto da sequence, como no upsert de clientes
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into funcionarios (id, nome, funcao, valor, evento_id)
+            select nextval('funcionarios_seq'), f.nome, f.funcao, f.valor, :eventoId
+            from funcionarios f
+            where f.orcamento_id = :orcamentoId
+            """, nativeQuery = true)
+    int copiarFuncionariosDoOrcamento(@Param("eventoId") Long eventoId, @Param("orcamentoId") Long orcamentoId);
+
+    // copia_de guarda o cardápio original, para a cópia dos itens achar o cardápio novo de cada um
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into cardapio (id, nome, evento_id, copia_de)
+            select nextval('cardapio_seq'), c.nome, :eventoId, c.id
+            from cardapio c
+            where c.orcamento_id = :orcamentoId
+            """, nativeQuery = true)
+    int copiarCardapiosDoOrcamento(@Param("eventoId") Long eventoId, @Param("orcamentoId") Long orcamentoId);
+
+    @Modifying
+    @Query(value = """
+            insert into item (id, nome, tipo, cardapio_id)
+            select nextval('item_seq'), i.nome, i.tipo, c.id
+            from cardapio c
+            join item i on i.cardapio_id = c.copia_de
+            where c.evento_id = :eventoId
+            """, nativeQuery = true)
+    int copiarItensDosCardapios(@Param("eventoId") Long eventoId);
+
+    @Query("select e.id from Evento e where e.id > :depoisDe order by e.id")
+    List<Long> findIdsAfter(@Param("depoisDe") Long depoisDe, Limit limit);
+
+    // recalcula do zero a partir das linhas filhas; cada lote é uma transação
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update evento
+            set gastos = coalesce((select sum(i.valor) from insumos i where i.evento_id = evento.id), 0)
+                       + coalesce((select sum(f.valor) from funcionarios f where f.evento_id = evento.id), 0),
+                lucro = valor
+                      - coalesce((select sum(i.valor) from insumos i where i.evento_id = evento.id), 0)
+                      - coalesce((select sum(f.valor) from funcionarios f where f.evento_id = evento.id), 0)
+            where id in (:ids)
+            """, nativeQuery = true)
+    int reconciliarFinanceiro(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,32 @@
+package br.com.papillon.eventos.evento.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.papillon.eventos.common.export.ExportFormat;
+import br.com.papillon.eventos.common.export.ExportStreamer;
+import br.com.papillon.eventos.evento.repositories.EventoRepository;
+
+@Service
+public class EventoExportService {
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ExportStreamer exportStreamer;
+
+    // a transação mantém o cursor aberto enquanto o ExportStreamer escreve
+    @Transactional(readOnly = true)
+    public void exportar(OutputStream out, ExportFormat formato) throws IOException {
+        exportStreamer.exportar(eventoRepository.streamAllForExport(), out, formato,
+                e -> new Object[]{e.getId(), e.getNome(), e.getCliente().getId(), e.getCliente().getNome(),
+                        e.getData(), e.getValor(), e.getGastos(), e.getLucro(), e.getStatus(), e.getQtdPessoas()},
+                "id", "nome", "clienteId", "clienteNome", "data",
+                "valor", "gastos", "lucro", "status", "qtdPessoas");
+    }
+}
@@ -1,33 +1,44 @@
 package br.com.papillon.eventos.evento.services;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import br.com.papillon.eventos.cardapios.entities.Cardapio;
 import br.com.papillon.eventos.cliente.entities.Cliente;
 import br.com.papillon.eventos.cliente.repositories.ClienteRepository;
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import br.com.papillon.eventos.evento.dtos.EventoCreateDto;
+import br.com.papillon.eventos.evento.dtos.EventoCursor;
+import br.com.papillon.eventos.evento.dtos.EventoPageDto;
+import br.com.papillon.eventos.evento.dtos.EventoRowDto;
 import br.com.papillon.eventos.evento.dtos.EventoShowDto;
 import br.com.papillon.eventos.evento.dtos.EventoSimpleDto;
 import br.com.papillon.eventos.evento.entities.Evento;
 import br.com.papillon.eventos.evento.exception.EventoNotFoundException;
 import br.com.papillon.eventos.evento.repositories.EventoRepository;
 import br.com.papillon.eventos.funcionario.entities.Funcionario;
+import br.com.papillon.eventos.insumos.dtos.InsumoDto;
 
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed(value = "evento.service", histogram = true)
 public class EventoService {
+    static final int PAGE_SIZE_PADRAO = 20;
+    static final int PAGE_SIZE_MAXIMO = 100;
+    // ids por IN na busca de insumos: a listagem completa não vira um IN com milhares de binds
+    public static final int LOTE_IDS = 500;
+
     @Autowired
     private EventoRepository eventoRepository;
 
@@ -40,36 +51,65 @@ public class EventoService {
         Evento novo = new Evento(dto, cliente);
         // inicializa explicitamente
         novo.setGastos(BigDecimal.ZERO);
-        novo.setLucro(BigDecimal.ZERO);
+        novo.setLucro(dto.valor());
 
         Evento salvo = eventoRepository.save(novo);
         // não há insumos nem funcionários ainda, mas vamos garantir
         return new EventoShowDto(salvo);
     }
 
+    @Transactional(readOnly = true)
     public List<EventoShowDto> listAllEventos() {
-        return eventoRepository.findAllByOrderByDataDesc()
-                .stream()
-                .map(EventoShowDto::new)
-                .collect(Collectors.toList());
+        return montarShowDtos(eventoRepository.findAllRowsOrderByDataDesc());
     }
 
+    // busca size + 1 linhas só para saber se existe próxima página
+    @Transactional(readOnly = true)
+    public EventoPageDto listEventosPage(Integer size, String pageToken, String status,
+                                         Long clienteId, LocalDate dataInicio, LocalDate dataFim) {
+        int limite = size == null ? PAGE_SIZE_PADRAO : Math.max(1, Math.min(size, PAGE_SIZE_MAXIMO));
+        EventoCursor cursor = pageToken == null || pageToken.isBlank() ? null : EventoCursor.decode(pageToken);
+
+        List<EventoRowDto> linhas = eventoRepository.findPage(
+                status, clienteId, dataInicio, dataFim,
+                cursor == null ? null : cursor.data(),
+                cursor == null ? null : cursor.id(),
+                Limit.of(limite + 1));
+
+        boolean temMais = linhas.size() > limite;
+        List<EventoRowDto> pagina = temMais ? linhas.subList(0, limite) : linhas;
+        String proximo = temMais ? new EventoCursor(pagina.get(limite - 1)).encode() : null;
+
+        return new EventoPageDto(montarShowDtos(pagina), proximo);
+    }
+
+    // uma query para as linhas de evento e uma para os insumos de cada LOTE_IDS eventos
+    private List<EventoShowDto> montarShowDtos(List<EventoRowDto> linhas) {
+        if (linhas.isEmpty()) return List.of();
+
+        List<Long> ids = linhas.stream().map(EventoRowDto::id).toList();
+        List<InsumoDto> insumos = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += LOTE_IDS) {
+            insumos.addAll(eventoRepository.findInsumosByEventoIds(ids.subList(i, Math.min(i + LOTE_IDS, ids.size()))));
+        }
+        return EventoShowDto.comInsumos(linhas, insumos);
+    }
+
+    @Transactional(readOnly = true)
     public EventoShowDto getEventoById(Long id) {
-        Evento ev = eventoRepository.findById(id)
+        Evento ev = eventoRepository.findDetailById(id)
                 .orElseThrow(() -> new EventoNotFoundException(id));
         return new EventoShowDto(ev);
     }
 
     public List<EventoSimpleDto> getEventosSimplesByClienteId(Long clienteId) {
-        return eventoRepository.findByClienteId(clienteId).stream()
-            .map(EventoSimpleDto::new)
-            .collect(Collectors.toList());
+        return eventoRepository.findSimplesByClienteId(clienteId);
     }
 
 
     @Transactional
     public EventoShowDto updateEvento(Long id, EventoCreateDto dto) {
-        Evento existente = eventoRepository.findById(id)
+        Evento existente = eventoRepository.findDetailById(id)
                 .orElseThrow(() -> new EventoNotFoundException(id));
         Cliente cliente = clienteRepository.findById(dto.clienteId())
                 .orElseThrow(() -> new RuntimeException("Cliente não encontrado"));
@@ -79,10 +119,16 @@ public class EventoService {
         existente.setData(dto.data());
         existente.setValor(dto.valor());
 
-        Evento salvo = eventoRepository.save(existente);
+        eventoRepository.save(existente);
+        // lucro depende de gastos, que pode ter mudado por delta desde a leitura
+        eventoRepository.recalcularLucro(id);
+        Evento salvo = eventoRepository.findDetailById(id)
+                .orElseThrow(() -> new EventoNotFoundException(id));
         return new EventoShowDto(salvo);
     }
 
+    // cardápios (com itens) e funcionários do orçamento são copiados no banco, um INSERT ... SELECT por tabela, sem
+    // passar pelas entidades; os funcionários já vêm carregados pelo grafo de detalhe para somar os gastos
     @Transactional
     public EventoShowDto createFromOrcamento(Orcamento orc) {
         EventoCreateDto dto = new EventoCreateDto(
@@ -96,24 +142,37 @@ public class EventoService {
 
         novo.setQtdPessoas(orc.getQuantidadePessoas());
 
-        novo.setFuncionarios(
-            orc.getFuncionarios().stream()
-                .map(Funcionario::new)
-                .collect(Collectors.toList())
-        );
-        novo.setCardapios(
-            orc.getCardapios().stream()
-                .map(Cardapio::new)
-                .collect(Collectors.toList())
-        );
-
-        novo.setGastos(BigDecimal.ZERO);
-        novo.setLucro(BigDecimal.ZERO);
+        BigDecimal gastos = orc.getFuncionarios().stream()
+                .map(Funcionario::getValor)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        novo.setGastos(gastos);
+        novo.setLucro(novo.getValor().subtract(gastos));
 
         Evento salvo = eventoRepository.save(novo);
+        if (!orc.getFuncionarios().isEmpty()) {
+            eventoRepository.copiarFuncionariosDoOrcamento(salvo.getId(), orc.getId());
+        }
+        if (!orc.getCardapios().isEmpty()) {
+            eventoRepository.copiarCardapiosDoOrcamento(salvo.getId(), orc.getId());
+            eventoRepository.copiarItensDosCardapios(salvo.getId());
+        }
         return new EventoShowDto(salvo);
     }
 
+    // reconstrói gastos/lucro a partir de insumos e funcionários, em lotes de ids
+    public int reconciliarFinanceiro(int tamanhoLote) {
+        int lote = Math.max(1, tamanhoLote);
+        int total = 0;
+        Long ultimoId = 0L;
+        while (true) {
+            List<Long> ids = eventoRepository.findIdsAfter(ultimoId, Limit.of(lote));
+            if (ids.isEmpty()) break;
+            total += eventoRepository.reconciliarFinanceiro(ids);
+            ultimoId = ids.get(ids.size() - 1);
+        }
+        return total;
+    }
+
     @Transactional
     public void deleteEvento(Long id) {
         if (!eventoRepository.existsById(id)) throw new EventoNotFoundException(id);
@@ -2,7 +2,9 @@ package br.com.papillon.eventos.funcionario.controllers;
 
 import java.util.List;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import jakarta.validation.Valid;
 
 import br.com.papillon.eventos.funcionario.dtos.FuncionarioDto;
@@ -45,4 +47,10 @@ public class FuncionarioController {
         service.deleteFuncionarioById(id);
         return ResponseEntity.noContent().build();
     }
+
+    // outra edição trocou o registro depois da leitura: o cliente relê e tenta de novo
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> editadoAoMesmoTempo(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Funcionário foi alterado por outra requisição; tente de novo.");
+    }
 }
@@ -11,7 +11,9 @@ import lombok.*;
 @Data @Builder @NoArgsConstructor @AllArgsConstructor
 public class Funcionario {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "funcionarios_seq")
+    @SequenceGenerator(name = "funcionarios_seq", sequenceName = "funcionarios_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank @Size(max = 100)
@@ -23,16 +25,14 @@ public class Funcionario {
     @NotNull
     private BigDecimal valor;
 
+    // a edição aplica ao evento a diferença sobre o valor lido; a versão barra quem leu um valor já trocado
+    @Version
+    private Long versao;
+
     public Funcionario(FuncionarioDto dto) {
         this.nome            = dto.nome();
         this.funcao          = dto.funcao();
         this.valor           = dto.valor();
     }
 
-    public Funcionario(Funcionario outro) {
-        this.nome = outro.getNome();
-        this.funcao = outro.getFuncao();
-        this.valor = outro.getValor();
-    }
-
 }
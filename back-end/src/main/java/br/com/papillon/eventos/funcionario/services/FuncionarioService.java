@@ -1,13 +1,17 @@
 package br.com.papillon.eventos.funcionario.services;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import br.com.papillon.eventos.funcionario.exception.FuncionarioNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import br.com.papillon.eventos.evento.repositories.EventoRepository;
 import br.com.papillon.eventos.funcionario.dtos.FuncionarioDto;
 import br.com.papillon.eventos.funcionario.entities.Funcionario;
 import br.com.papillon.eventos.funcionario.repositories.FuncionarioRepository;
@@ -15,9 +19,14 @@ import br.com.papillon.eventos.funcionario.repositories.FuncionarioRepository;
 @Service
 public class FuncionarioService {
 
+    private static final Logger log = LoggerFactory.getLogger(FuncionarioService.class);
+
     @Autowired
     private FuncionarioRepository repo;
 
+    @Autowired
+    private EventoRepository eventoRepository;
+
     @Transactional
     public FuncionarioDto createFuncionario(FuncionarioDto dto) {
         Funcionario f = new Funcionario(dto);
@@ -39,26 +48,35 @@ public class FuncionarioService {
         return new FuncionarioDto(f);
     }
 
+    // o UPDATE versionado sai antes do delta: se outra edição trocou o valor depois da leitura, falha aqui
+    // (ObjectOptimisticLockingFailureException) e nada é aplicado ao evento
     @Transactional
     public FuncionarioDto updateFuncionarioById(Long id, FuncionarioDto dto) {
         var existing = repo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Funcionário não encontrado: " + id));
+        BigDecimal delta = dto.valor().subtract(existing.getValor());
         existing.setNome(dto.nome());
         existing.setFuncao(dto.funcao());
         existing.setValor(dto.valor());
+        repo.saveAndFlush(existing);
+
+        if (delta.signum() != 0) {
+            // no-op quando o funcionário não está ligado a um evento
+            eventoRepository.aplicarDeltaGastosPorFuncionario(id, delta);
+        }
 
         return new FuncionarioDto(existing);
     }
 
     @Transactional
     public void deleteFuncionarioById(Long id) {
-        System.out.println(">>> Deletando funcionário id=" + id);
+        log.debug("Excluindo funcionário {}", id);
 
         if (!repo.existsById(id)) {
             throw new FuncionarioNotFoundException(id);
         }
 
+        eventoRepository.descontarFuncionario(id);
         repo.deleteById(id);
-        System.out.println(">>> Chamada deleteById concluída");
     }
 }
@@ -3,12 +3,12 @@ package br.com.papillon.eventos.insumos.controllers;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import br.com.papillon.eventos.evento.entities.Evento;
-import br.com.papillon.eventos.evento.repositories.EventoRepository;
 import br.com.papillon.eventos.insumos.dtos.InsumoDto;
 import br.com.papillon.eventos.insumos.entities.Insumo;
 import br.com.papillon.eventos.insumos.services.InsumoService;
@@ -20,18 +20,11 @@ public class InsumoController {
     @Autowired
     private InsumoService insumoService;
 
-    @Autowired
-    private EventoRepository eventoRepository;
-
     // Criar novo insumo
     // Controller
     @PostMapping
     public ResponseEntity<InsumoDto> createInsumo(@RequestBody @Valid InsumoDto dto) {
         Insumo criado = insumoService.createInsumo(dto);
-        Evento evento = eventoRepository.findById(dto.eventoId()).orElseThrow(null);
-        evento.setGastos(evento.getGastos().add(dto.valor()));
-        evento.setLucro(evento.getValor().subtract(evento.getGastos()));
-        eventoRepository.save(evento);
         return ResponseEntity.ok(new InsumoDto(criado));
     }
 
@@ -49,6 +42,13 @@ public class InsumoController {
         return ResponseEntity.ok(dto);
     }
 
+    // Atualizar insumo por ID
+    @PutMapping("/{id}")
+    public ResponseEntity<InsumoDto> updateInsumoById(@PathVariable Long id,
+                                                      @RequestBody @Valid InsumoDto dto) {
+        return ResponseEntity.ok(insumoService.updateInsumoById(id, dto));
+    }
+
     // Excluir insumo por ID
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteInsumoById(@PathVariable Long id) {
@@ -56,4 +56,9 @@ public class InsumoController {
         return ResponseEntity.noContent().build();
     }
 
+    // outra edição trocou o registro depois da leitura: o cliente relê e tenta de novo
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> editadoAoMesmoTempo(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Insumo foi alterado por outra requisição; tente de novo.");
+    }
 }
@@ -22,7 +22,8 @@ import br.com.papillon.eventos.evento.entities.Evento;
 public class Insumo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "insumos_seq")
+    @SequenceGenerator(name = "insumos_seq", sequenceName = "insumos_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank @Size(max = 100)
@@ -38,6 +39,10 @@ public class Insumo {
 
     private String metodoPagamento;
 
+    // a edição aplica ao evento a diferença sobre o valor lido; a versão barra quem leu um valor já trocado
+    @Version
+    private Long versao;
+
     public Insumo(InsumoDto dto, Evento evento) {
         this.nome = dto.nome();
         this.valor = dto.valor();
@@ -1,8 +1,11 @@
 package br.com.papillon.eventos.insumos.services;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -17,19 +20,42 @@ import br.com.papillon.eventos.evento.repositories.EventoRepository;
 @Service
 public class InsumoService {
 
+    private static final Logger log = LoggerFactory.getLogger(InsumoService.class);
+
     @Autowired
     private InsumoRepository insumoRepository;
 
     @Autowired
     private EventoRepository eventoRepository;
 
+    @Transactional
     public Insumo createInsumo(InsumoDto dto) {
         Evento ev = eventoRepository.findById(dto.eventoId())
                 .orElseThrow(() -> new RuntimeException("Evento não encontrado: " + dto.eventoId()));
 
-        Insumo novo = new Insumo(dto, ev);
-        // como cascade=ALL em Insumo.metodoPagamento, o pagamento será salvo junto
-        return insumoRepository.save(novo);
+        Insumo novo = insumoRepository.save(new Insumo(dto, ev));
+        eventoRepository.aplicarDeltaGastos(ev.getId(), novo.getValor());
+        return novo;
+    }
+
+    // o insumo continua no mesmo evento; só nome, valor e método de pagamento mudam.
+    // O UPDATE versionado sai antes do delta: se outra edição trocou o valor depois da leitura, falha aqui
+    // (ObjectOptimisticLockingFailureException) e nada é aplicado ao evento
+    @Transactional
+    public InsumoDto updateInsumoById(Long id, InsumoDto dto) {
+        Insumo existente = insumoRepository.findById(id)
+                .orElseThrow(() -> new InsumoNotFoundException(id));
+        BigDecimal delta = dto.valor().subtract(existente.getValor());
+
+        existente.setNome(dto.nome());
+        existente.setValor(dto.valor());
+        existente.setMetodoPagamento(dto.metodoPagamento());
+        insumoRepository.saveAndFlush(existente);
+
+        if (delta.signum() != 0) {
+            eventoRepository.aplicarDeltaGastos(existente.getEvento().getId(), delta);
+        }
+        return new InsumoDto(existente);
     }
 
 
@@ -47,10 +73,11 @@ public class InsumoService {
 
     @Transactional
     public void deleteInsumoById(Long id) {
-        System.out.println(">>>> Deletando insumo id=" + id);
+        log.debug("Excluindo insumo {}", id);
         if (!insumoRepository.existsById(id)) {
             throw new InsumoNotFoundException(id);
         }
+        eventoRepository.descontarInsumo(id);
         insumoRepository.deleteById(id);
     }
 }
@@ -0,0 +1,50 @@
+package br.com.papillon.eventos.orcamento.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+public class PdfExecutorConfig {
+
+    // renderização é CPU: poucas threads e fila curta; com a fila cheia quem submete renderiza
+    // (CallerRunsPolicy), o que segura lotes concorrentes sem rejeitar nada
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService pdfExecutor(
+            @Value("${app.pdf.lote.threads:0}") int threads,
+            @Value("${app.pdf.lote.fila:32}") int fila) {
+        int n = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(n, n, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                r -> {
+                    Thread t = new Thread(r, "pdf-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // com spring.threads.virtual.enabled (Java 21): uma virtual thread por PDF, no máximo n renderizando ao
+    // mesmo tempo; acima disso quem submete espera uma vaga, o mesmo freio da fila cheia acima
+    @Bean("pdfExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor pdfVirtualExecutor(@Value("${app.pdf.lote.threads:0}") int threads) {
+        int n = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors());
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("pdf-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(n);
+        executor.setTaskTerminationTimeout(TimeUnit.SECONDS.toMillis(30));
+        return executor;
+    }
+}
@@ -1,17 +1,25 @@
 package br.com.papillon.eventos.orcamento.controllers;
 
+import java.io.IOException;
 import java.util.List;
 
+import br.com.papillon.eventos.common.export.ExportFormat;
 import br.com.papillon.eventos.orcamento.dtos.OrcamentoCreateDto;
 import br.com.papillon.eventos.orcamento.dtos.OrcamentoShowDto;
+import br.com.papillon.eventos.orcamento.dtos.PdfLoteRequestDto;
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
 import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import br.com.papillon.eventos.orcamento.services.OrcamentoExportService;
 import br.com.papillon.eventos.orcamento.services.OrcamentoService;
+import br.com.papillon.eventos.orcamento.services.PdfLoteService;
 import br.com.papillon.eventos.orcamento.services.PdfService;
 
 @RestController
@@ -26,6 +34,12 @@ public class OrcamentoController {
     @Autowired
     private PdfService pdfService;
 
+    @Autowired
+    private OrcamentoExportService exportService;
+
+    @Autowired
+    private PdfLoteService pdfLoteService;
+
     public OrcamentoController(OrcamentoService service) {
         this.service = service;
     }
@@ -40,6 +54,16 @@ public class OrcamentoController {
         return ResponseEntity.ok(service.listAll());
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat formato) {
+        StreamingResponseBody body = out -> exportService.exportar(out, formato);
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=orcamentos." + formato.getExtensao())
+                .contentType(formato.getMediaType())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<OrcamentoShowDto> get(@PathVariable Long id) {
         return ResponseEntity.ok(service.getById(id));
@@ -67,14 +91,24 @@ public class OrcamentoController {
     }
 
     @GetMapping("/{id}/pdf")
-    public ResponseEntity<byte[]> downloadPdf(@PathVariable Long id) {
-        Orcamento orcamento = orcamentoService.getEntityById(id); 
-        byte[] pdfBytes = pdfService.generatePdfFromOrcamento(orcamento);
+    public void downloadPdf(@PathVariable Long id, HttpServletResponse response) throws IOException {
+        Orcamento orcamento = orcamentoService.getEntityForPdf(id);
+
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader("Content-Disposition", "attachment; filename=orcamento_" + id + ".pdf");
+        response.flushBuffer(); // cabeçalhos saem antes do primeiro byte do documento
+        pdfService.writePdf(orcamento, response.getOutputStream());
+    }
 
+    // ZIP com um PDF por orçamento + relatorio.csv (resultado de cada id), enviado conforme os PDFs ficam prontos
+    @PostMapping("/pdf/lote")
+    public ResponseEntity<StreamingResponseBody> downloadPdfLote(@RequestBody PdfLoteRequestDto dto) {
+        List<Long> ids = pdfLoteService.resolverIds(dto);
+        StreamingResponseBody body = out -> pdfLoteService.gerarZip(ids, out);
         return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=orcamento_" + id + ".pdf")
-                .contentType(org.springframework.http.MediaType.APPLICATION_PDF)
-                .body(pdfBytes);
+                .header("Content-Disposition", "attachment; filename=orcamentos_pdf.zip")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
     }
 
 }
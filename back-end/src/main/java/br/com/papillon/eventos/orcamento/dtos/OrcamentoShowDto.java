@@ -2,10 +2,10 @@ package br.com.papillon.eventos.orcamento.dtos;
 
 import java.util.List;
 import java.math.BigDecimal;
-import java.sql.Timestamp;
 
 import br.com.papillon.eventos.cardapios.entities.Cardapio;
 import br.com.papillon.eventos.cliente.dtos.ClienteDto;
+import br.com.papillon.eventos.common.DataEpoch;
 import br.com.papillon.eventos.funcionario.entities.Funcionario;
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
 import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
@@ -27,12 +27,12 @@ public record OrcamentoShowDto(
         this(
                 o.getId(),
                 new ClienteDto(o.getCliente()),
-                Timestamp.valueOf(o.getDataDoEvento().atStartOfDay()).getTime(),
+                DataEpoch.millis(o.getDataDoEvento()),
                 o.getQuantidadePessoas(),
                 o.getValorPorPessoa(),
                 o.getValorTotal(),
-                Timestamp.valueOf(o.getDataGeracao().atStartOfDay()).getTime(),
-                Timestamp.valueOf(o.getDataLimite().atStartOfDay()).getTime(),
+                DataEpoch.millis(o.getDataGeracao()),
+                DataEpoch.millis(o.getDataLimite()),
                 o.getStatus().name(),
                 o.getFuncionarios(),
                 o.getCardapios()
@@ -0,0 +1,12 @@
+package br.com.papillon.eventos.orcamento.dtos;
+
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+
+import java.util.List;
+
+// informe `ids` ou `status` (ex.: todos os PENDENTE), não os dois
+public record PdfLoteRequestDto(
+        List<Long> ids,
+        OrcamentoStatus status
+) {
+}
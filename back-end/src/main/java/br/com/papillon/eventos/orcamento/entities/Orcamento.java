@@ -19,7 +19,12 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -31,17 +36,37 @@ import br.com.papillon.eventos.funcionario.entities.Funcionario;
 
 @Entity
 @Table(name = "orcamentos")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Orcamento.GRAPH_LIST, attributeNodes = {
+                @NamedAttributeNode("cliente")
+        }),
+        @NamedEntityGraph(name = Orcamento.GRAPH_DETAIL, attributeNodes = {
+                @NamedAttributeNode("cliente"),
+                @NamedAttributeNode("funcionarios")
+        }),
+        @NamedEntityGraph(name = Orcamento.GRAPH_PDF, attributeNodes = {
+                @NamedAttributeNode("cliente"),
+                @NamedAttributeNode("cardapios")
+        })
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Orcamento {
 
+    // perfis de carga por caminho de leitura; só uma coleção (List) por grafo,
+    // o resto vem por @BatchSize em uma query por coleção
+    public static final String GRAPH_LIST = "Orcamento.list";
+    public static final String GRAPH_DETAIL = "Orcamento.detail";
+    public static final String GRAPH_PDF = "Orcamento.pdf";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orcamentos_seq")
+    @SequenceGenerator(name = "orcamentos_seq", sequenceName = "orcamentos_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false, fetch = FetchType.EAGER)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "cliente_id")
     private Cliente cliente;
 
@@ -59,10 +84,12 @@ public class Orcamento {
 
     @OneToMany(cascade = CascadeType.ALL)
     @JoinColumn(name = "orcamento_id", nullable = true) 
+    @BatchSize(size = 50)
     private List<Cardapio> cardapios;
 
     @OneToMany(cascade = CascadeType.ALL)
     @JoinColumn(name = "orcamento_id", nullable = true)
+    @BatchSize(size = 50)
     private List<Funcionario> funcionarios;
 
     @Enumerated(EnumType.STRING)
@@ -1,7 +1,27 @@
 package br.com.papillon.eventos.orcamento.entities;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrcamentoStatus {
     PENDENTE,
     ACEITO,
-    RECUSADO
+    RECUSADO,
+    EXPIRADO; // passou da dataLimite ainda PENDENTE; definido pelo OrcamentoExpiracaoJob
+
+    // transições permitidas. ACEITO é final: o aceite já gerou o evento, e voltar permitiria um segundo aceite
+    private static final Map<OrcamentoStatus, Set<OrcamentoStatus>> TRANSICOES = new EnumMap<>(OrcamentoStatus.class);
+
+    static {
+        TRANSICOES.put(PENDENTE, EnumSet.of(ACEITO, RECUSADO, EXPIRADO));
+        TRANSICOES.put(ACEITO, EnumSet.noneOf(OrcamentoStatus.class));
+        TRANSICOES.put(RECUSADO, EnumSet.of(PENDENTE));
+        TRANSICOES.put(EXPIRADO, EnumSet.of(PENDENTE));
+    }
+
+    public boolean podeIrPara(OrcamentoStatus destino) {
+        return TRANSICOES.get(this).contains(destino);
+    }
 }
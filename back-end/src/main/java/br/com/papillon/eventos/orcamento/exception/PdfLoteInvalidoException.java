@@ -0,0 +1,11 @@
+package br.com.papillon.eventos.orcamento.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class PdfLoteInvalidoException extends RuntimeException {
+    public PdfLoteInvalidoException(String mensagem) {
+        super(mensagem);
+    }
+}
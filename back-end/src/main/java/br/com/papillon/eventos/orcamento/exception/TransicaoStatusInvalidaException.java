@@ -0,0 +1,13 @@
+package br.com.papillon.eventos.orcamento.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TransicaoStatusInvalidaException extends RuntimeException {
+    public TransicaoStatusInvalidaException(Long id, OrcamentoStatus atual, OrcamentoStatus destino) {
+        super("Orçamento com ID " + id + " está " + atual + " e não pode passar para " + destino + ".");
+    }
+}
@@ -1,8 +1,84 @@
 // br.com.papillon.eventos.orcamento/repositories/OrcamentoRepository.java
 package br.com.papillon.eventos.orcamento.repositories;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import br.com.papillon.eventos.common.export.ExportStreamer;
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
 
 public interface OrcamentoRepository extends JpaRepository<Orcamento, Long> {
+
+    @Override
+    @EntityGraph(Orcamento.GRAPH_LIST)
+    List<Orcamento> findAll();
+
+    @EntityGraph(Orcamento.GRAPH_DETAIL)
+    Optional<Orcamento> findDetailById(Long id);
+
+    @EntityGraph(Orcamento.GRAPH_PDF)
+    Optional<Orcamento> findForPdfById(Long id);
+
+    @EntityGraph(Orcamento.GRAPH_PDF)
+    List<Orcamento> findForPdfByIdIn(Collection<Long> ids);
+
+    @Query("select o.id from Orcamento o where o.status = :status order by o.id")
+    List<Long> findIdsByStatus(OrcamentoStatus status);
+
+    // status nulo (linhas anteriores ao status obrigatório) vale como PENDENTE, o mesmo padrão do @PrePersist
+    @Query("""
+            select coalesce(o.status, br.com.papillon.eventos.orcamento.entities.OrcamentoStatus.PENDENTE)
+            from Orcamento o where o.id = :id
+            """)
+    Optional<OrcamentoStatus> findStatusById(@Param("id") Long id);
+
+    // compare-and-set: só troca se o status ainda for `atual`; 0 linhas = outro pedido mudou antes.
+    // Um status nulo conta como PENDENTE, como no findStatusById
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Orcamento o set o.status = :novo
+            where o.id = :id
+              and (o.status = :atual
+                   or (o.status is null
+                       and :atual = br.com.papillon.eventos.orcamento.entities.OrcamentoStatus.PENDENTE))
+            """)
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("atual") OrcamentoStatus atual,
+                            @Param("novo") OrcamentoStatus novo);
+
+    // expira no máximo `lote` orçamentos vencidos por chamada (Postgres não tem UPDATE ... LIMIT), cada chamada na
+    // sua transação; o status é conferido de novo fora da subquery para não sobrescrever um aceite concorrente
+    @Modifying
+    @Transactional
+    @Query(value = """
+            update orcamentos set status = 'EXPIRADO'
+            where status = 'PENDENTE'
+              and id in (select o.id from orcamentos o
+                         where o.status = 'PENDENTE' and o.data_limite < :hoje
+                         order by o.id
+                         limit :lote)
+            """, nativeQuery = true)
+    int expirarVencidos(@Param("hoje") LocalDate hoje, @Param("lote") int lote);
+
+    // exportação: cursor no servidor (fetch size) lido linha a linha; consumir dentro de uma transação
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportStreamer.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Orcamento o join fetch o.cliente order by o.id")
+    Stream<Orcamento> streamAllForExport();
 }
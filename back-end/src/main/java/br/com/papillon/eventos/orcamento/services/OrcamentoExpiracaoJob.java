@@ -0,0 +1,65 @@
+package br.com.papillon.eventos.orcamento.services;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Move para EXPIRADO os orçamentos PENDENTE cuja dataLimite já passou. Roda em UPDATEs de até
+ * `app.orcamento.expiracao.lote` linhas, cada um na sua transação, para não segurar locks na tabela toda.
+ */
+@Component
+public class OrcamentoExpiracaoJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OrcamentoExpiracaoJob.class);
+
+    private final OrcamentoRepository repo;
+    private final ZoneId zona;
+    private final int tamanhoLote;
+    private final DistributionSummary linhasPorExecucao;
+
+    public OrcamentoExpiracaoJob(OrcamentoRepository repo, MeterRegistry registry,
+                                 @Value("${app.zonedatetime}") String zona,
+                                 @Value("${app.orcamento.expiracao.lote:500}") int tamanhoLote) {
+        Assert.isTrue(tamanhoLote > 0, "app.orcamento.expiracao.lote deve ser maior que zero");
+        this.repo = repo;
+        this.zona = ZoneId.of(zona);
+        this.tamanhoLote = tamanhoLote;
+        this.linhasPorExecucao = DistributionSummary.builder("orcamentos.expiracao.linhas")
+                .description("Orçamentos expirados por execução do job")
+                .baseUnit("orcamentos")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${app.orcamento.expiracao.cron:0 5 0 * * *}", zone = "${app.zonedatetime}")
+    public void executar() {
+        expirarVencidos(LocalDate.now(zona));
+    }
+
+    // vence no dia seguinte à dataLimite: a própria dataLimite ainda é um dia válido.
+    // Só para num lote vazio: um aceite concorrente tira linhas de um lote sem que os vencidos tenham acabado
+    public int expirarVencidos(LocalDate hoje) {
+        int total = 0;
+        int afetadas;
+        do {
+            afetadas = repo.expirarVencidos(hoje, tamanhoLote);
+            total += afetadas;
+        } while (afetadas > 0);
+
+        linhasPorExecucao.record(total);
+        if (total > 0) {
+            log.info("{} orçamento(s) com dataLimite anterior a {} marcados como EXPIRADO", total, hoje);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.papillon.eventos.orcamento.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.papillon.eventos.common.export.ExportFormat;
+import br.com.papillon.eventos.common.export.ExportStreamer;
+import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
+
+@Service
+public class OrcamentoExportService {
+
+    private final OrcamentoRepository repo;
+    private final ExportStreamer exportStreamer;
+
+    public OrcamentoExportService(OrcamentoRepository repo, ExportStreamer exportStreamer) {
+        this.repo = repo;
+        this.exportStreamer = exportStreamer;
+    }
+
+    // a transação mantém o cursor aberto enquanto o ExportStreamer escreve;
+    // linhas antigas podem ter status nulo (a coluna não é not null) e saem com o campo vazio
+    @Transactional(readOnly = true)
+    public void exportar(OutputStream out, ExportFormat formato) throws IOException {
+        exportStreamer.exportar(repo.streamAllForExport(), out, formato,
+                o -> new Object[]{o.getId(), o.getCliente().getId(), o.getCliente().getNome(), o.getDataDoEvento(),
+                        o.getQuantidadePessoas(), o.getValorPorPessoa(), o.getValorTotal(),
+                        o.getStatus() == null ? null : o.getStatus().name(), o.getDataGeracao(), o.getDataLimite()},
+                "id", "clienteId", "clienteNome", "dataDoEvento", "quantidadePessoas",
+                "valorPorPessoa", "valorTotal", "status", "dataGeracao", "dataLimite");
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.papillon.eventos.orcamento.services;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,24 +17,31 @@ import org.springframework.stereotype.Service;
 
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
 import br.com.papillon.eventos.orcamento.exception.OrcamentoNotFoundException;
+import br.com.papillon.eventos.orcamento.exception.TransicaoStatusInvalidaException;
 import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
 
+import org.hibernate.Hibernate;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed(value = "orcamento.service", histogram = true)
 public class OrcamentoService {
 
     private final OrcamentoRepository repo;
     private final ClienteRepository clienteRepo;
     private final ClienteService clienteService;
     private final EventoService eventoService;
+    private final PdfCache pdfCache;
 
     public OrcamentoService(OrcamentoRepository repo, ClienteService clienteService, 
-                EventoService eventoService, ClienteRepository clienteRepo) {
+                EventoService eventoService, ClienteRepository clienteRepo, PdfCache pdfCache) {
         this.clienteRepo = clienteRepo;
         this.repo = repo;
         this.clienteService = clienteService;
         this.eventoService = eventoService;
+        this.pdfCache = pdfCache;
     }
 
     @Transactional
@@ -46,27 +54,45 @@ public class OrcamentoService {
         return new OrcamentoShowDto(orc);
     }
 
+    @Transactional(readOnly = true)
     public List<OrcamentoShowDto> listAll() {
         return repo.findAll().stream()
                 .map(OrcamentoShowDto::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public OrcamentoShowDto getById(Long id) {
         return new OrcamentoShowDto(
-                repo.findById(id).orElseThrow(() -> new OrcamentoNotFoundException(id))
+                repo.findDetailById(id).orElseThrow(() -> new OrcamentoNotFoundException(id))
         );
     }
 
-    public Orcamento getEntityById(Long id) {
-        return repo.findById(id).orElseThrow(() -> new OrcamentoNotFoundException(id));
+    // carrega cliente e cardápios numa query; itens vêm em lote ao montar o PDF
+    public Orcamento getEntityForPdf(Long id) {
+        return repo.findForPdfById(id).orElseThrow(() -> new OrcamentoNotFoundException(id));
+    }
+
+    // versão em lote para renderizar fora da transação (em outras threads): cardápios vêm no join e os
+    // itens são inicializados aqui, em lotes pelo @BatchSize, antes de a sessão fechar
+    @Transactional(readOnly = true)
+    public List<Orcamento> getEntitiesForPdf(Collection<Long> ids) {
+        List<Orcamento> orcamentos = repo.findForPdfByIdIn(ids);
+        for (Orcamento o : orcamentos) {
+            o.getCardapios().forEach(c -> Hibernate.initialize(c.getItens()));
+        }
+        return orcamentos;
+    }
+
+    public List<Long> getIdsByStatus(OrcamentoStatus status) {
+        return repo.findIdsByStatus(status);
     }
 
     @Transactional
     public OrcamentoShowDto update(Long id, OrcamentoCreateDto dto) {
-        var existente = repo.findById(id)
+        var existente = repo.findDetailById(id)
                 .orElseThrow(() -> new OrcamentoNotFoundException(id));
-        var cliente = clienteRepo.findByCpfCnpj(dto.cliente().cpfCnpj())
+        var cliente = clienteRepo.findByCpfCnpj(Cliente.normalizarCpfCnpj(dto.cliente().cpfCnpj()))
                 .orElseThrow(() -> new RuntimeException("Cliente não encontrado"));
         existente.setCliente(cliente);
         existente.setDataDoEvento(dto.dataDoEvento());
@@ -75,28 +101,48 @@ public class OrcamentoService {
         existente.setDataLimite(dto.dataLimite());
 //        existente.setCardapios(cardRepo.findAllById(dto.cardapioIds()));
 //        existente.setFuncionarios(funcRepo.findAllById(dto.funcionarioIds()));
+        pdfCache.invalidate(id);
         return new OrcamentoShowDto(repo.save(existente));
     }
 
+    // A troca é um UPDATE ... WHERE id = ? AND status = ? (sem lock explícito): com pedidos concorrentes só um
+    // vence, e só quem venceu a passagem para ACEITO cria o evento, na mesma transação do UPDATE.
+    // Repetir o status atual é no-op; qualquer outra corrida perdida vira 409. Quem perde relê o status sem lock:
+    // em READ COMMITTED o UPDATE que perdeu já esperou o commit do vencedor, então a releitura vê o status dele.
     @Transactional
     public OrcamentoShowDto changeStatus(Long id, OrcamentoStatus novoStatus) {
-        Orcamento existente = repo.findById(id)
+        OrcamentoStatus atual = repo.findStatusById(id)
                 .orElseThrow(() -> new OrcamentoNotFoundException(id));
-        OrcamentoStatus antigo = existente.getStatus();
-        existente.setStatus(novoStatus);
-        Orcamento salvo = repo.save(existente);
-
-        if (antigo != OrcamentoStatus.ACEITO
-                && novoStatus == OrcamentoStatus.ACEITO) {
-            eventoService.createFromOrcamento(salvo);
+        boolean alterou = false;
+        if (atual != novoStatus) {
+            if (!atual.podeIrPara(novoStatus)) {
+                throw new TransicaoStatusInvalidaException(id, atual, novoStatus);
+            }
+            alterou = repo.compareAndSetStatus(id, atual, novoStatus) == 1;
+            if (!alterou) {
+                OrcamentoStatus agora = repo.findStatusById(id)
+                        .orElseThrow(() -> new OrcamentoNotFoundException(id));
+                if (agora != novoStatus) {
+                    throw new TransicaoStatusInvalidaException(id, agora, novoStatus);
+                }
+            }
         }
 
-        return new OrcamentoShowDto(salvo);
+        Orcamento orcamento = repo.findDetailById(id)
+                .orElseThrow(() -> new OrcamentoNotFoundException(id));
+        if (alterou) {
+            pdfCache.invalidate(id);
+            if (novoStatus == OrcamentoStatus.ACEITO) {
+                eventoService.createFromOrcamento(orcamento);
+            }
+        }
+        return new OrcamentoShowDto(orcamento);
     }
 
     @Transactional
     public void delete(Long id) {
         if (!repo.existsById(id)) throw new OrcamentoNotFoundException(id);
         repo.deleteById(id);
+        pdfCache.invalidate(id);
     }
 }
@@ -0,0 +1,199 @@
+package br.com.papillon.eventos.orcamento.services;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache de PDFs de orçamento, por id + hash do conteúdo renderizado.
+ * Em memória é um LRU limitado pelo total de bytes; o que é despejado
+ * pode transbordar para um diretório local (app.pdf.cache.dir), também limitado
+ * em bytes (app.pdf.cache.disco.max-bytes) e esvaziado a cada subida.
+ */
+@Component
+public class PdfCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfCache.class);
+
+    private record Entrada(String hash, byte[] pdf) {}
+
+    private record NoDisco(String hash, long bytes) {}
+
+    private final long maxBytes;
+    private final long maxBytesDisco;
+    private final Path dir;
+    private final LinkedHashMap<Long, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesEmMemoria;
+
+    // índice do que está no disco, em ordem de gravação: o arquivo de cada id é achado pelo nome, sem listar o
+    // diretório. Gravações e remoções de arquivo passam por este lock; leituras só consultam o índice sob ele
+    private final LinkedHashMap<Long, NoDisco> noDisco = new LinkedHashMap<>();
+    private long bytesNoDisco;
+
+    public PdfCache(@Value("${app.pdf.cache.max-bytes:33554432}") long maxBytes,
+                    @Value("${app.pdf.cache.dir:}") String dir,
+                    @Value("${app.pdf.cache.disco.max-bytes:268435456}") long maxBytesDisco) {
+        this.maxBytes = maxBytes;
+        this.maxBytesDisco = maxBytesDisco;
+        this.dir = dir == null || dir.isBlank() ? null : Path.of(dir);
+        if (this.dir != null) {
+            try {
+                Files.createDirectories(this.dir);
+                limparDiretorio();
+            } catch (IOException e) {
+                throw new IllegalStateException("Não foi possível preparar o diretório do cache de PDF: " + dir, e);
+            }
+        }
+    }
+
+    public byte[] get(Long orcamentoId, String hash) {
+        synchronized (this) {
+            Entrada e = entradas.get(orcamentoId);
+            if (e != null && e.hash().equals(hash)) return e.pdf();
+        }
+        byte[] doDisco = lerDoDisco(orcamentoId, hash);
+        if (doDisco != null) put(orcamentoId, hash, doDisco);
+        return doDisco;
+    }
+
+    public void put(Long orcamentoId, String hash, byte[] pdf) {
+        if (pdf.length > maxBytes) return;
+        List<Map.Entry<Long, Entrada>> despejadas = new ArrayList<>();
+        synchronized (this) {
+            Entrada anterior = entradas.put(orcamentoId, new Entrada(hash, pdf));
+            if (anterior != null) bytesEmMemoria -= anterior.pdf().length;
+            bytesEmMemoria += pdf.length;
+
+            Iterator<Map.Entry<Long, Entrada>> it = entradas.entrySet().iterator();
+            while (bytesEmMemoria > maxBytes && it.hasNext()) {
+                Map.Entry<Long, Entrada> maisAntiga = it.next();
+                it.remove();
+                bytesEmMemoria -= maisAntiga.getValue().pdf().length;
+                despejadas.add(maisAntiga);
+            }
+        }
+        apagarDoDisco(orcamentoId);
+        for (Map.Entry<Long, Entrada> e : despejadas) {
+            gravarNoDisco(e.getKey(), e.getValue());
+        }
+    }
+
+    public void invalidate(Long orcamentoId) {
+        synchronized (this) {
+            Entrada removida = entradas.remove(orcamentoId);
+            if (removida != null) bytesEmMemoria -= removida.pdf().length;
+        }
+        apagarDoDisco(orcamentoId);
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    synchronized long bytesEmMemoria() {
+        return bytesEmMemoria;
+    }
+
+    long bytesNoDisco() {
+        synchronized (noDisco) {
+            return bytesNoDisco;
+        }
+    }
+
+    private Path arquivo(Long orcamentoId, String hash) {
+        return dir.resolve(orcamentoId + "-" + hash + ".pdf");
+    }
+
+    // o arquivo só aparece com o nome final depois de completo (move atômico), então o que é lido aqui está
+    // inteiro; se uma remoção concorrente chegar antes, é um miss
+    private byte[] lerDoDisco(Long orcamentoId, String hash) {
+        if (dir == null) return null;
+        synchronized (noDisco) {
+            NoDisco d = noDisco.get(orcamentoId);
+            if (d == null || !d.hash().equals(hash)) return null;
+        }
+        Path arquivo = arquivo(orcamentoId, hash);
+        try {
+            return Files.readAllBytes(arquivo);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Falha ao ler PDF em cache {}", arquivo, e);
+            return null;
+        }
+    }
+
+    private void gravarNoDisco(Long orcamentoId, Entrada entrada) {
+        if (dir == null || entrada.pdf().length > maxBytesDisco) return;
+        synchronized (noDisco) {
+            try {
+                Path temporario = Files.createTempFile(dir, orcamentoId + "-", ".tmp");
+                try {
+                    Files.write(temporario, entrada.pdf());
+                    Files.move(temporario, arquivo(orcamentoId, entrada.hash()), StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temporario);
+                }
+            } catch (IOException e) {
+                log.warn("Falha ao gravar PDF do orçamento {} no disco", orcamentoId, e);
+                return;
+            }
+
+            NoDisco anterior = noDisco.remove(orcamentoId);
+            if (anterior != null) {
+                bytesNoDisco -= anterior.bytes();
+                if (!anterior.hash().equals(entrada.hash())) apagarArquivo(orcamentoId, anterior.hash());
+            }
+            noDisco.put(orcamentoId, new NoDisco(entrada.hash(), entrada.pdf().length));
+            bytesNoDisco += entrada.pdf().length;
+
+            Iterator<Map.Entry<Long, NoDisco>> it = noDisco.entrySet().iterator();
+            while (bytesNoDisco > maxBytesDisco && it.hasNext()) {
+                Map.Entry<Long, NoDisco> maisAntigo = it.next();
+                it.remove();
+                bytesNoDisco -= maisAntigo.getValue().bytes();
+                apagarArquivo(maisAntigo.getKey(), maisAntigo.getValue().hash());
+            }
+        }
+    }
+
+    private void apagarDoDisco(Long orcamentoId) {
+        if (dir == null) return;
+        synchronized (noDisco) {
+            NoDisco removido = noDisco.remove(orcamentoId);
+            if (removido == null) return;
+            bytesNoDisco -= removido.bytes();
+            apagarArquivo(orcamentoId, removido.hash());
+        }
+    }
+
+    private void apagarArquivo(Long orcamentoId, String hash) {
+        try {
+            Files.deleteIfExists(arquivo(orcamentoId, hash));
+        } catch (IOException e) {
+            log.warn("Falha ao apagar PDF do orçamento {} no disco", orcamentoId, e);
+        }
+    }
+
+    // o índice começa vazio: arquivos de uma execução anterior nunca seriam achados nem apagados
+    private void limparDiretorio() throws IOException {
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(dir, "*.{pdf,tmp}")) {
+            for (Path arquivo : arquivos) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package br.com.papillon.eventos.orcamento.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.papillon.eventos.common.export.ExportFormat;
+import br.com.papillon.eventos.common.export.ExportWriter;
+import br.com.papillon.eventos.orcamento.dtos.PdfLoteRequestDto;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.exception.PdfLoteInvalidoException;
+
+/**
+ * Gera os PDFs de vários orçamentos e devolve tudo num ZIP, escrito à medida que cada PDF fica pronto.
+ * O último arquivo do ZIP é o relatorio.csv, com o resultado de cada id (OK, ERRO ou NAO_ENCONTRADO).
+ */
+@Service
+public class PdfLoteService {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfLoteService.class);
+
+    // orçamentos carregados por vez: limita quantas entidades/PDFs ficam em memória ao mesmo tempo
+    static final int TAMANHO_BLOCO = 20;
+
+    static final String RELATORIO = "relatorio.csv";
+
+    enum Resultado { OK, ERRO, NAO_ENCONTRADO }
+
+    private final OrcamentoService orcamentoService;
+    private final PdfService pdfService;
+    private final Executor pdfExecutor;
+    private final ObjectMapper objectMapper;
+    private final int maxIds;
+
+    public PdfLoteService(OrcamentoService orcamentoService, PdfService pdfService,
+                          @Qualifier("pdfExecutor") Executor pdfExecutor, ObjectMapper objectMapper,
+                          @Value("${app.pdf.lote.max-ids:500}") int maxIds) {
+        this.orcamentoService = orcamentoService;
+        this.pdfService = pdfService;
+        this.pdfExecutor = pdfExecutor;
+        this.objectMapper = objectMapper;
+        this.maxIds = maxIds;
+    }
+
+    // resolvido antes de começar a resposta, para que um pedido inválido ainda vire 400
+    public List<Long> resolverIds(PdfLoteRequestDto dto) {
+        boolean temIds = dto.ids() != null && !dto.ids().isEmpty();
+        if (temIds == (dto.status() != null)) {
+            throw new PdfLoteInvalidoException("Informe a lista de ids ou o status, não os dois");
+        }
+        List<Long> ids = temIds
+                ? new ArrayList<>(new LinkedHashSet<>(dto.ids()))
+                : orcamentoService.getIdsByStatus(dto.status());
+        if (ids.size() > maxIds) {
+            throw new PdfLoteInvalidoException(
+                    "Lote com " + ids.size() + " orçamentos; o máximo é " + maxIds);
+        }
+        return ids;
+    }
+
+    public void gerarZip(List<Long> ids, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        List<Object[]> relatorio = new ArrayList<>(ids.size());
+        int concluidos = 0;
+
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_BLOCO) {
+            List<Long> bloco = ids.subList(inicio, Math.min(inicio + TAMANHO_BLOCO, ids.size()));
+            Map<Long, Orcamento> encontrados = orcamentoService.getEntitiesForPdf(bloco).stream()
+                    .collect(Collectors.toMap(Orcamento::getId, Function.identity()));
+
+            CompletionService<Renderizado> renders = new ExecutorCompletionService<>(pdfExecutor);
+            int enviados = 0;
+            for (Long id : bloco) {
+                Orcamento o = encontrados.get(id);
+                if (o == null) {
+                    relatorio.add(new Object[]{id, Resultado.NAO_ENCONTRADO, null, null});
+                    concluidos++;
+                    continue;
+                }
+                renders.submit(() -> renderizar(o));
+                enviados++;
+            }
+
+            // o ZIP só é escrito por esta thread, na ordem em que os PDFs ficam prontos
+            for (int i = 0; i < enviados; i++) {
+                Renderizado r = aguardar(renders);
+                if (r.pdf() != null) {
+                    zip.putNextEntry(new ZipEntry("orcamento_" + r.id() + ".pdf"));
+                    zip.write(r.pdf());
+                    zip.closeEntry();
+                    zip.flush();
+                    relatorio.add(new Object[]{r.id(), Resultado.OK, r.pdf().length, null});
+                } else {
+                    relatorio.add(new Object[]{r.id(), Resultado.ERRO, null, r.erro()});
+                }
+                concluidos++;
+            }
+            log.info("PDFs em lote: {}/{} concluídos", concluidos, ids.size());
+        }
+
+        zip.putNextEntry(new ZipEntry(RELATORIO));
+        try (ExportWriter writer = new ExportWriter(zip, ExportFormat.CSV, objectMapper,
+                "id", "resultado", "bytes", "erro")) {
+            for (Object[] linha : relatorio) {
+                writer.write(linha);
+            }
+        }
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    private Renderizado renderizar(Orcamento o) {
+        try {
+            return new Renderizado(o.getId(), pdfService.getPdf(o), null);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gerar PDF do orçamento {} no lote", o.getId(), e);
+            String causa = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            return new Renderizado(o.getId(), null, causa);
+        }
+    }
+
+    private static Renderizado aguardar(CompletionService<Renderizado> renders) throws IOException {
+        try {
+            return renders.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Geração de PDFs em lote interrompida", e);
+        } catch (ExecutionException e) {
+            // renderizar() já converte as falhas em Renderizado; aqui só sobra Error
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Renderizado(Long id, byte[] pdf, String erro) {
+    }
+}
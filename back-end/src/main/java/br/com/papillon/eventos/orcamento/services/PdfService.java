@@ -4,67 +4,126 @@ import com.lowagie.text.*;
 import com.lowagie.text.pdf.*;
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
 import org.springframework.stereotype.Service;
-import java.awt.*;
 import com.lowagie.text.Font;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayOutputStream;
-import java.util.Date;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 @Service
 public class PdfService {
 
+    // até este total de itens de cardápio o PDF fica em ~15 KB (~3 KB fixos + ~25 bytes por item): é renderizado
+    // em memória e guardado no cache; acima disso vai direto para a resposta, sem cópia nenhuma
+    static final int MAX_ITENS_EM_MEMORIA = 500;
+
+    private final PdfCache cache;
+    private final PropostaTemplate template;
+    // só renderizações de fato: downloads servidos pelo cache não entram
+    private final Timer renderizacao;
+
+    public PdfService(PdfCache cache, PropostaTemplate template, MeterRegistry registry) {
+        this.cache = cache;
+        this.template = template;
+        this.renderizacao = Timer.builder("pdf.render")
+                .description("Tempo de renderização do PDF de orçamento")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // downloads repetidos do mesmo conteúdo saem do cache, sem renderizar de novo
+    public byte[] getPdf(Orcamento orcamento) {
+        String hash = conteudoHash(orcamento);
+        byte[] pdf = cache.get(orcamento.getId(), hash);
+        if (pdf == null) {
+            pdf = generatePdfFromOrcamento(orcamento);
+            cache.put(orcamento.getId(), hash, pdf);
+        }
+        return pdf;
+    }
+
+    // hash de tudo que aparece no PDF; qualquer alteração gera outra chave
+    String conteudoHash(Orcamento orcamento) {
+        StringBuilder sb = new StringBuilder()
+                .append(orcamento.getId()).append('|')
+                .append(orcamento.getCliente().getNome()).append('|')
+                .append(orcamento.getDataDoEvento()).append('|')
+                .append(orcamento.getQuantidadePessoas()).append('|')
+                .append(orcamento.getValorPorPessoa()).append('|')
+                .append(orcamento.getValorTotal()).append('|')
+                .append(orcamento.getDataLimite()).append('|')
+                .append(orcamento.getDataGeracao()).append('|')
+                .append(orcamento.getStatus());
+        if (orcamento.getCardapios() != null) {
+            for (var c : orcamento.getCardapios()) {
+                sb.append("|C:").append(c.getNome());
+                for (var i : c.getItens()) {
+                    sb.append("|I:").append(i.getNome()).append('/').append(i.getTipo());
+                }
+            }
+        }
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // variante para a resposta HTTP: PDFs pequenos passam pelo cache; os grandes são renderizados direto em `out`,
+    // sem byte[] intermediário e sem entrar no cache
+    public void writePdf(Orcamento orcamento, OutputStream out) throws IOException {
+        if (totalItens(orcamento) > MAX_ITENS_EM_MEMORIA) {
+            render(orcamento, out);
+            return;
+        }
+        out.write(getPdf(orcamento));
+    }
+
+    private static int totalItens(Orcamento orcamento) {
+        int total = 0;
+        if (orcamento.getCardapios() != null) {
+            for (var c : orcamento.getCardapios()) {
+                if (c.getItens() != null) total += c.getItens().size();
+            }
+        }
+        return total;
+    }
+
     public byte[] generatePdfFromOrcamento(Orcamento orcamento) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            Document document = new Document(PageSize.A4, 36, 36, 36, 36);
-            PdfWriter.getInstance(document, baos);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(16 * 1024);
+        render(orcamento, baos);
+        return baos.toByteArray();
+    }
+
+    // só a saudação, as tabelas e o rodapé são montados aqui; o texto fixo vem pronto do template
+    private void render(Orcamento orcamento, OutputStream out) {
+        renderizacao.record(() -> renderSemMedir(orcamento, out));
+    }
+
+    private void renderSemMedir(Orcamento orcamento, OutputStream out) {
+        try {
+            float m = PropostaTemplate.MARGEM;
+            Document document = new Document(PageSize.A4, m, m, m, m);
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false); // quem abriu o stream (ex.: o container) é quem fecha
             document.open();
 
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, new Color(0, 51, 102));
-            Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
-            Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
-            Font smallBoldFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9);
-            Font italicFont = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 10);
-            
             Paragraph saudacao = new Paragraph();
-            saudacao.add(new Chunk("PREZADO(A): " + orcamento.getCliente().getNome(), headerFont));
+            saudacao.add(new Chunk("PREZADO(A): " + orcamento.getCliente().getNome(), template.headerFont));
             document.add(saudacao);
-            document.add(Chunk.NEWLINE);
-            
-            addFormattedText(document, 
-                "É com imensa satisfação que enviamos proposta e condições especiais para a realização do evento.",
-                normalFont, 0);
-            
-            addFormattedText(document, "- SERVIÇO DE QUALIDADE", headerFont, 10);
-            addFormattedText(document, 
-                "Nosso serviço proporcionará uma experiência personalizada que valoriza cada pessoa presente. " +
-                "Seu evento terá cardápio e decoração exclusivos.", 
-                normalFont, 5);
-            
-            addFormattedText(document, "- NOSSO HISTÓRICO – COMO COMEÇAMOS", headerFont, 10);
-            addFormattedText(document, 
-                "PAPILLON hoje considerada uma das principais empresas de gastronomia e decoração de Fortaleza, " +
-                "tem uma ótima reputação que foi conquistada graças a um trabalho de excelência e muito relacionamento " +
-                "de proximidade e respeito com nossos clientes ao longo dos anos. Acreditamos que todos eles merecem " +
-                "o mais alto nível de atendimento, e esse é exatamente o nosso compromisso. Desde 2003 Erika Queiroz " +
-                "trabalha sempre para superar as expectativas, realizando eventos sociais e corporativos, com " +
-                "altíssimo padrão de qualidade a cada entrega.",
-                normalFont, 5);
-            
-            addFormattedText(document, "- SERVIÇOS", headerFont, 10);
-            addFormattedText(document, "Gastronomia e Decoração", headerFont, 5);
-            addFormattedText(document, 
-                "- Nossos serviços são personalizados para refletir a identidade de cada evento. Sendo idealizado " +
-                "com muita dedicação, comprometimento e amor, transformando sonhos em realidade!", 
-                normalFont, 5);
-            
-            addFormattedText(document, "- ORÇAMENTO -", headerFont, 10);
-            addFormattedText(document, 
-                "É com imensa satisfação que enviamos proposta e condições especiais para a realização do seu evento.",
-                normalFont, 15);
-            
-            Paragraph title = new Paragraph(20);
-            title.add(new Chunk("DETALHES DO ORÇAMENTO", titleFont));
-            title.setAlignment(Element.ALIGN_CENTER);
-            document.add(title);
+            document.add(template.quebraDeLinha);
+
+            template.adicionarSecoesFixas(document, writer);
+
+            Font headerFont = template.headerFont;
+            Font normalFont = template.normalFont;
+            Font smallBoldFont = template.smallBoldFont;
 
             PdfPTable mainTable = new PdfPTable(new float[]{35, 65});
             mainTable.setWidthPercentage(100);
@@ -106,28 +165,24 @@ public class PdfService {
                 }
                 
                 document.add(itensTable);
-                document.add(Chunk.NEWLINE);
+                document.add(template.quebraDeLinha);
             }
 
-            Paragraph footer = new Paragraph(20);
-            footer.add(new Chunk("Gerado em: " + new Date(), italicFont));
-            footer.setAlignment(Element.ALIGN_CENTER);
-            document.add(footer);
+            // data em que o orçamento foi gerado (faz parte do hash), não a hora da renderização: o PDF em cache
+            // continua igual ao que seria renderizado agora
+            if (orcamento.getDataGeracao() != null) {
+                Paragraph footer = new Paragraph(20);
+                footer.add(new Chunk("Gerado em: " + orcamento.getDataGeracao(), template.italicFont));
+                footer.setAlignment(Element.ALIGN_CENTER);
+                document.add(footer);
+            }
 
             document.close();
-            return baos.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Erro ao gerar PDF do orçamento", e);
         }
     }
 
-    private void addFormattedText(Document document, String text, Font font, float spacingAfter) throws DocumentException {
-        Paragraph p = new Paragraph();
-        p.add(new Chunk(text, font));
-        p.setSpacingAfter(spacingAfter);
-        document.add(p);
-    }
-    
     private void addTableHeader(PdfPTable table, String text, Font font) {
         table.addCell(createCell(text, Element.ALIGN_CENTER, true, font));
     }
@@ -138,17 +193,7 @@ public class PdfService {
     }
     
     private PdfPCell createCell(String text, int alignment, boolean isBold, Font baseFont) {
-        Font font = isBold ? 
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, baseFont.getSize(), baseFont.getColor()) : 
-            baseFont;
-        
-        PdfPCell cell = new PdfPCell(new Phrase(new Chunk(text, font)));
-        cell.setHorizontalAlignment(alignment);
-        cell.setPadding(5);
-        cell.setBorderColor(Color.LIGHT_GRAY);
-        if (isBold) {
-            cell.setBackgroundColor(new Color(240, 240, 240));
-        }
-        return cell;
+        Font font = isBold ? template.negrito(baseFont) : baseFont;
+        return template.celula(text, alignment, isBold, font);
     }
-}
\ No newline at end of file
+}
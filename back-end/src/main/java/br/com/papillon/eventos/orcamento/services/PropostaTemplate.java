@@ -0,0 +1,155 @@
+package br.com.papillon.eventos.orcamento.services;
+
+import com.lowagie.text.*;
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.*;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Parte fixa da proposta (apresentação, histórico, serviços, título) renderizada uma única vez na subida.
+// Cada PDF só importa a página pronta como um bloco; fontes e estilos de célula também são compartilhados.
+@Component
+public class PropostaTemplate {
+
+    static final float MARGEM = 36;
+    static final float LARGURA_UTIL = PageSize.A4.getWidth() - 2 * MARGEM;
+
+    private static final Color CINZA_DESTAQUE = new Color(240, 240, 240);
+
+    // objetos Font são só lidos durante a renderização, então podem ser compartilhados entre threads
+    final Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, new Color(0, 51, 102));
+    final Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
+    final Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
+    final Font normalBoldFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10);
+    final Font smallBoldFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9);
+    final Font italicFont = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 10);
+
+    // Chunk.NEWLINE usa a fonte padrão, que no OpenPDF é uma TrueType embutida (LiberationSans): cada PDF que a
+    // usava carregava um subset da fonte, comprimido a cada geração. Com Helvetica a quebra de linha sai de graça.
+    final Chunk quebraDeLinha = new Chunk("\n", FontFactory.getFont(FontFactory.HELVETICA, 12));
+
+    private final byte[] secoesFixas;
+
+    public PropostaTemplate() {
+        this.secoesFixas = prerenderizar();
+    }
+
+    // importa o bloco pré-renderizado no fluxo do documento; o PdfReader é por chamada (não é thread-safe),
+    // mas só lê os bytes já prontos, sem refazer layout de texto
+    void adicionarSecoesFixas(Document document, PdfWriter writer) throws IOException, DocumentException {
+        PdfReader reader = new PdfReader(secoesFixas);
+        PdfImportedPage pagina = writer.getImportedPage(reader, 1);
+        Image bloco = Image.getInstance(pagina);
+        bloco.setAlignment(Element.ALIGN_LEFT);
+        document.add(bloco);
+    }
+
+    PdfPCell celula(String text, int alignment, boolean destaque, Font font) {
+        PdfPCell cell = new PdfPCell(new Phrase(new Chunk(text, font)));
+        cell.setHorizontalAlignment(alignment);
+        cell.setPadding(5);
+        cell.setBorderColor(Color.LIGHT_GRAY);
+        if (destaque) {
+            cell.setBackgroundColor(CINZA_DESTAQUE);
+        }
+        return cell;
+    }
+
+    // versão em negrito da fonte usada nas células de destaque, sem passar pelo FontFactory a cada célula
+    Font negrito(Font font) {
+        return font == normalFont ? normalBoldFont : font;
+    }
+
+    int tamanhoSecoesFixas() {
+        return secoesFixas.length;
+    }
+
+    private List<Element> secoes() {
+        List<Element> secoes = new ArrayList<>();
+        secoes.add(texto(
+                "É com imensa satisfação que enviamos proposta e condições especiais para a realização do evento.",
+                normalFont, 0));
+
+        secoes.add(texto("- SERVIÇO DE QUALIDADE", headerFont, 10));
+        secoes.add(texto(
+                "Nosso serviço proporcionará uma experiência personalizada que valoriza cada pessoa presente. " +
+                "Seu evento terá cardápio e decoração exclusivos.",
+                normalFont, 5));
+
+        secoes.add(texto("- NOSSO HISTÓRICO – COMO COMEÇAMOS", headerFont, 10));
+        secoes.add(texto(
+                "PAPILLON hoje considerada uma das principais empresas de gastronomia e decoração de Fortaleza, " +
+                "tem uma ótima reputação que foi conquistada graças a um trabalho de excelência e muito relacionamento " +
+                "de proximidade e respeito com nossos clientes ao longo dos anos. Acreditamos que todos eles merecem " +
+                "o mais alto nível de atendimento, e esse é exatamente o nosso compromisso. Desde 2003 Erika Queiroz " +
+                "trabalha sempre para superar as expectativas, realizando eventos sociais e corporativos, com " +
+                "altíssimo padrão de qualidade a cada entrega.",
+                normalFont, 5));
+
+        secoes.add(texto("- SERVIÇOS", headerFont, 10));
+        secoes.add(texto("Gastronomia e Decoração", headerFont, 5));
+        secoes.add(texto(
+                "- Nossos serviços são personalizados para refletir a identidade de cada evento. Sendo idealizado " +
+                "com muita dedicação, comprometimento e amor, transformando sonhos em realidade!",
+                normalFont, 5));
+
+        secoes.add(texto("- ORÇAMENTO -", headerFont, 10));
+        secoes.add(texto(
+                "É com imensa satisfação que enviamos proposta e condições especiais para a realização do seu evento.",
+                normalFont, 15));
+
+        Paragraph title = new Paragraph(20);
+        title.add(new Chunk("DETALHES DO ORÇAMENTO", titleFont));
+        title.setAlignment(Element.ALIGN_CENTER);
+        secoes.add(title);
+        return secoes;
+    }
+
+    private static Paragraph texto(String text, Font font, float spacingAfter) {
+        Paragraph p = new Paragraph();
+        p.add(new Chunk(text, font));
+        p.setSpacingAfter(spacingAfter);
+        return p;
+    }
+
+    // duas passadas: a primeira só mede a altura ocupada, a segunda gera uma página exatamente desse tamanho
+    private byte[] prerenderizar() {
+        try {
+            float altura = medirAltura();
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            Document document = new Document(new Rectangle(LARGURA_UTIL, altura), 0, 0, 0, 0);
+            PdfWriter writer = PdfWriter.getInstance(document, baos);
+            document.open();
+            ColumnText ct = coluna(writer.getDirectContent(), altura);
+            ct.go();
+            document.close();
+            return baos.toByteArray();
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Erro ao pré-renderizar o template da proposta", e);
+        }
+    }
+
+    // simulação sem canvas: só quebra as linhas para descobrir onde o texto termina
+    private float medirAltura() throws DocumentException {
+        float alturaMaxima = PageSize.A4.getHeight();
+        ColumnText ct = coluna(null, alturaMaxima);
+        if (ColumnText.hasMoreText(ct.go(true))) {
+            throw new IllegalStateException("Seções fixas da proposta não cabem em uma página");
+        }
+        return (float) Math.ceil(alturaMaxima - ct.getYLine());
+    }
+
+    private ColumnText coluna(PdfContentByte canvas, float altura) {
+        ColumnText ct = new ColumnText(canvas);
+        ct.setSimpleColumn(0, 0, LARGURA_UTIL, altura);
+        for (Element e : secoes()) {
+            ct.addElement(e);
+        }
+        return ct;
+    }
+}
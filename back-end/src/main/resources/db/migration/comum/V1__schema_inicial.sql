@@ -0,0 +1,115 @@
+-- Schema das entidades como o ddl-auto=update deixava no Postgres. Tudo com IF NOT EXISTS: bancos que já existiam
+-- entram com baseline na versão 0 (spring.flyway.baseline-version) e esta migração só completa o que faltar.
+-- Roda também no H2 dos testes, então só SQL comum aos dois.
+
+create sequence if not exists clientes_seq start with 1 increment by 50;
+create sequence if not exists evento_seq start with 1 increment by 50;
+create sequence if not exists orcamentos_seq start with 1 increment by 50;
+create sequence if not exists insumos_seq start with 1 increment by 50;
+create sequence if not exists funcionarios_seq start with 1 increment by 50;
+create sequence if not exists cardapio_seq start with 1 increment by 50;
+create sequence if not exists item_seq start with 1 increment by 50;
+
+create table if not exists clientes (
+    id bigint not null,
+    nome varchar(100) not null,
+    email varchar(100) not null,
+    cpf_cnpj varchar(20) not null,
+    telefone varchar(20) not null,
+    constraint clientes_pkey primary key (id),
+    constraint clientes_cpf_cnpj_key unique (cpf_cnpj)
+);
+
+create table if not exists users (
+    id bigint generated by default as identity,
+    username varchar(255),
+    password varchar(255) not null,
+    role varchar(255),
+    constraint users_pkey primary key (id)
+);
+
+create table if not exists evento (
+    id bigint not null,
+    nome varchar(255),
+    cliente_id bigint not null,
+    data date not null,
+    valor numeric(38,2) not null,
+    gastos numeric(38,2),
+    lucro numeric(38,2),
+    status varchar(255),
+    qtd_pessoas integer not null,
+    constraint evento_pkey primary key (id),
+    constraint fk_evento_cliente foreign key (cliente_id) references clientes
+);
+
+create table if not exists orcamentos (
+    id bigint not null,
+    cliente_id bigint not null,
+    data_do_evento date not null,
+    quantidade_pessoas integer not null,
+    valor_por_pessoa numeric(38,2) not null,
+    valor_total numeric(38,2) not null,
+    status varchar(255),
+    data_geracao date not null,
+    data_limite date not null,
+    constraint orcamentos_pkey primary key (id),
+    constraint fk_orcamentos_cliente foreign key (cliente_id) references clientes
+);
+
+create table if not exists insumos (
+    id bigint not null,
+    nome varchar(100) not null,
+    valor numeric(38,2) not null,
+    metodo_pagamento varchar(255),
+    evento_id bigint not null,
+    constraint insumos_pkey primary key (id),
+    constraint fk_insumos_evento foreign key (evento_id) references evento
+);
+
+-- cardápios e funcionários do orçamento aceito são as mesmas linhas do evento: as duas FKs convivem
+create table if not exists funcionarios (
+    id bigint not null,
+    nome varchar(100) not null,
+    funcao varchar(100) not null,
+    valor numeric(38,2) not null,
+    orcamento_id bigint,
+    evento_id bigint,
+    constraint funcionarios_pkey primary key (id),
+    constraint fk_funcionarios_orcamento foreign key (orcamento_id) references orcamentos,
+    constraint fk_funcionarios_evento foreign key (evento_id) references evento
+);
+
+create table if not exists cardapio (
+    id bigint not null,
+    nome varchar(255) not null,
+    orcamento_id bigint,
+    evento_id bigint,
+    constraint cardapio_pkey primary key (id),
+    constraint fk_cardapio_orcamento foreign key (orcamento_id) references orcamentos,
+    constraint fk_cardapio_evento foreign key (evento_id) references evento
+);
+
+create table if not exists item (
+    id bigint not null,
+    nome varchar(255) not null,
+    tipo varchar(255) not null,
+    cardapio_id bigint not null,
+    constraint item_pkey primary key (id),
+    constraint fk_item_cardapio foreign key (cardapio_id) references cardapio
+);
+
+create table if not exists refresh_tokens (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    token_hash varchar(64) not null,
+    familia varchar(36) not null,
+    expira_em timestamp(6) with time zone not null,
+    usado_em timestamp(6) with time zone,
+    constraint refresh_tokens_pkey primary key (id),
+    constraint refresh_tokens_token_hash_key unique (token_hash),
+    constraint fk_refresh_tokens_user foreign key (user_id) references users
+);
+
+create index if not exists idx_orcamentos_status_data_limite on orcamentos (status, data_limite);
+create index if not exists idx_refresh_tokens_expira_em on refresh_tokens (expira_em);
+create index if not exists idx_refresh_tokens_familia on refresh_tokens (familia);
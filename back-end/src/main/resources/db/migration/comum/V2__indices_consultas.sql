@@ -0,0 +1,13 @@
+-- Índices dos predicados quentes. O Postgres não indexa FKs sozinho: sem estes, carregar as coleções de um
+-- orçamento ou evento, somar gastos e excluir em cascata varrem a tabela filha inteira.
+
+-- listagem paginada por keyset (order by data desc, id desc) e filtro por período
+create index if not exists idx_evento_data_id on evento (data, id);
+create index if not exists idx_evento_cliente_id on evento (cliente_id);
+create index if not exists idx_insumos_evento_id on insumos (evento_id);
+create index if not exists idx_funcionarios_orcamento_id on funcionarios (orcamento_id);
+create index if not exists idx_funcionarios_evento_id on funcionarios (evento_id);
+create index if not exists idx_cardapio_orcamento_id on cardapio (orcamento_id);
+create index if not exists idx_cardapio_evento_id on cardapio (evento_id);
+-- itens vêm em lote por cardápio (@BatchSize)
+create index if not exists idx_item_cardapio_id on item (cardapio_id);
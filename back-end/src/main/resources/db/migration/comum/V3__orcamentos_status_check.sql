@@ -0,0 +1,6 @@
+-- O ddl-auto criava "status in (...)" com os valores do enum na época e nunca atualizava a constraint; o
+-- schema-postgresql.sql a derrubava a cada subida. Agora ela é recriada aqui com todos os OrcamentoStatus:
+-- um valor novo no enum pede uma migração nova.
+alter table orcamentos drop constraint if exists orcamentos_status_check;
+alter table orcamentos add constraint orcamentos_status_check
+    check (status in ('PENDENTE', 'ACEITO', 'RECUSADO', 'EXPIRADO'));
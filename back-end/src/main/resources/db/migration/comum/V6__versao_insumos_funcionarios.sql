@@ -0,0 +1,4 @@
+-- Edição de insumo/funcionário aplica ao evento a diferença entre o valor novo e o lido. Com a versão, quem leu
+-- um valor que outra edição já trocou falha no UPDATE (lock otimista) em vez de aplicar uma diferença errada.
+alter table insumos add column if not exists versao bigint not null default 0;
+alter table funcionarios add column if not exists versao bigint not null default 0;
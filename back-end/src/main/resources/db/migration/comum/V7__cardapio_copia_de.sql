@@ -0,0 +1,3 @@
+-- Aceite do orçamento: o evento recebe cópias dos cardápios, itens e funcionários, e as linhas do orçamento aceito
+-- ficam só com ele. copia_de liga cada cardápio copiado ao original, para os itens seguirem para a cópia certa.
+alter table cardapio add column if not exists copia_de bigint;
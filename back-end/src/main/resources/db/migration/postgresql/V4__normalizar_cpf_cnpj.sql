@@ -0,0 +1,26 @@
+-- Migrações de dados só no Postgres: o H2 dos testes sempre começa vazio.
+-- cpf_cnpj gravado antes da normalização (Cliente.normalizarCpfCnpj: só letras e dígitos, em maiúsculas).
+-- Dois cadastros que viram o mesmo documento são o mesmo cliente: fica o de menor id, e orçamentos e eventos do
+-- outro passam para ele antes de a linha duplicada sair.
+create temporary table cliente_normalizado on commit drop as
+select id,
+       upper(regexp_replace(cpf_cnpj, '[^0-9A-Za-z]', '', 'g')) as cpf_cnpj,
+       first_value(id) over (partition by upper(regexp_replace(cpf_cnpj, '[^0-9A-Za-z]', '', 'g'))
+                             order by id) as manter
+from clientes;
+
+update orcamentos o set cliente_id = n.manter
+from cliente_normalizado n
+where o.cliente_id = n.id and n.id <> n.manter;
+
+update evento e set cliente_id = n.manter
+from cliente_normalizado n
+where e.cliente_id = n.id and n.id <> n.manter;
+
+delete from clientes c
+using cliente_normalizado n
+where c.id = n.id and n.id <> n.manter;
+
+update clientes c set cpf_cnpj = n.cpf_cnpj
+from cliente_normalizado n
+where c.id = n.id and c.cpf_cnpj <> n.cpf_cnpj;
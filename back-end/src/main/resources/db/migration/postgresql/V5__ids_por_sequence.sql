@@ -0,0 +1,16 @@
+-- Bancos que vêm do IDENTITY: a V1 cria as sequences em 1, atrás dos ids já gravados. Cada sequence que não passou
+-- do max(id) da tabela é adiantada; com setval(max) o próximo nextval é max + 50 e o bloco do otimizador pooled
+-- fica em (max, max + 50]. A coluna id deixa de ser IDENTITY: os ids vêm só da sequence.
+do $$
+declare
+    tabela text;
+begin
+    foreach tabela in array array['clientes', 'evento', 'orcamentos', 'insumos', 'funcionarios', 'cardapio', 'item']
+    loop
+        execute format(
+            'select setval(%L, m) from (select max(id) as m from %I) t where m >= (select last_value from %I)',
+            tabela || '_seq', tabela, tabela || '_seq');
+        execute format('alter table %I alter column id drop identity if exists', tabela);
+    end loop;
+end
+$$;
@@ -0,0 +1,244 @@
+package br.com.papillon.eventos;
+
+import br.com.papillon.eventos.cardapios.entities.Cardapio;
+import br.com.papillon.eventos.cardapios.entities.Item;
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.cliente.services.ClienteService;
+import br.com.papillon.eventos.evento.entities.Evento;
+import br.com.papillon.eventos.evento.services.EventoService;
+import br.com.papillon.eventos.funcionario.entities.Funcionario;
+import br.com.papillon.eventos.insumos.entities.Insumo;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.services.OrcamentoService;
+import br.com.papillon.eventos.orcamento.services.PdfCache;
+import br.com.papillon.eventos.orcamento.services.PropostaTemplate;
+import br.com.papillon.eventos.orcamento.services.PdfService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conta as instruções SQL de cada caminho de leitura. Se algum mapeamento voltar
+ * a gerar N+1, o número cresce com a quantidade de linhas e o teste quebra.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({EventoService.class, OrcamentoService.class, ClienteService.class, PdfService.class, PdfCache.class,
+        PropostaTemplate.class, SimpleMeterRegistry.class})
+class QueryCountTests {
+
+    private static final int LINHAS = 5;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private OrcamentoService orcamentoService;
+
+    @Autowired
+    private PdfService pdfService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    private Statistics stats;
+    private Long eventoId;
+    private Long orcamentoId;
+    private Long clienteId;
+
+    @BeforeEach
+    void setup() {
+        for (int n = 0; n < LINHAS; n++) {
+            Cliente cliente = new Cliente(null, "Cliente " + n, "c" + n + "@email.com", "000" + n, "8599999999");
+            em.persist(cliente);
+            clienteId = cliente.getId();
+
+            Evento evento = Evento.builder()
+                    .nome("Evento " + n).cliente(cliente).data(LocalDate.of(2025, 1, 1 + n))
+                    .valor(BigDecimal.TEN).gastos(BigDecimal.ZERO).lucro(BigDecimal.ZERO)
+                    .status("PENDENTE").insumos(new ArrayList<>())
+                    .build();
+            for (int i = 0; i < 3; i++) {
+                evento.getInsumos().add(Insumo.builder()
+                        .nome("Insumo " + i).valor(BigDecimal.ONE).evento(evento).build());
+            }
+            em.persist(evento);
+            eventoId = evento.getId();
+
+            Orcamento orc = Orcamento.builder()
+                    .cliente(cliente).dataDoEvento(LocalDate.of(2025, 2, 1 + n))
+                    .quantidadePessoas(10).valorPorPessoa(BigDecimal.TEN)
+                    .dataLimite(LocalDate.of(2025, 1, 20))
+                    .cardapios(List.of(cardapio("Almoço"), cardapio("Jantar")))
+                    .funcionarios(List.of(funcionario("Garçom"), funcionario("Cozinheiro")))
+                    .build();
+            em.persist(orc);
+            orcamentoId = orc.getId();
+        }
+        em.flush();
+        em.clear();
+
+        stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+    }
+
+    private Cardapio cardapio(String nome) {
+        List<Item> itens = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            itens.add(Item.builder().nome(nome + " " + i).tipo("Prato").build());
+        }
+        return Cardapio.builder().nome(nome).itens(itens).build();
+    }
+
+    private Funcionario funcionario(String funcao) {
+        return Funcionario.builder().nome("Fulano").funcao(funcao).valor(BigDecimal.TEN).build();
+    }
+
+    private long statements() {
+        return stats.getPrepareStatementCount();
+    }
+
+    @Test
+    void listarEventos_duasQueries() throws Exception {
+        mapper.writeValueAsString(eventoService.listAllEventos());
+        assertEquals(2, statements());
+        // projeções: nenhum Evento, Cliente ou Insumo gerenciado
+        assertEquals(0, stats.getEntityLoadCount());
+    }
+
+    @Test
+    void listarEventos_insumosEmLotesDeIds() throws Exception {
+        Cliente cliente = em.createQuery("select c from Cliente c", Cliente.class).setMaxResults(1).getSingleResult();
+        for (int n = LINHAS; n <= EventoService.LOTE_IDS; n++) {
+            Evento evento = Evento.builder()
+                    .nome("Evento " + n).cliente(cliente).data(LocalDate.of(2024, 1, 1).plusDays(n))
+                    .valor(BigDecimal.TEN).gastos(BigDecimal.ZERO).lucro(BigDecimal.ZERO)
+                    .status("PENDENTE").insumos(new ArrayList<>())
+                    .build();
+            evento.getInsumos().add(Insumo.builder().nome("Insumo").valor(BigDecimal.ONE).evento(evento).build());
+            em.persist(evento);
+        }
+        em.flush();
+        em.clear();
+        stats.clear();
+
+        var eventos = eventoService.listAllEventos();
+        mapper.writeValueAsString(eventos);
+        assertEquals(EventoService.LOTE_IDS + 1, eventos.size());
+        assertTrue(eventos.stream().allMatch(e -> !e.insumos().isEmpty()));
+        // eventos, insumos dos primeiros LOTE_IDS, insumos do que sobrou
+        assertEquals(3, statements());
+    }
+
+    @Test
+    void paginaDeEventos_duasQueries() throws Exception {
+        mapper.writeValueAsString(eventoService.listEventosPage(3, null, null, null, null, null));
+        assertEquals(2, statements());
+    }
+
+    @Test
+    void detalheDoEvento_umaQuery() throws Exception {
+        mapper.writeValueAsString(eventoService.getEventoById(eventoId));
+        assertEquals(1, statements());
+    }
+
+    // mais eventos (com insumos) para o último cliente: o número de instruções não pode acompanhar
+    private int eventosExtrasDoCliente() {
+        Cliente cliente = em.find(Cliente.class, clienteId);
+        for (int n = 0; n < LINHAS; n++) {
+            Evento evento = Evento.builder()
+                    .nome("Extra " + n).cliente(cliente).data(LocalDate.of(2024, 6, 1 + n))
+                    .valor(BigDecimal.TEN).gastos(BigDecimal.ZERO).lucro(BigDecimal.ZERO)
+                    .status("PENDENTE").insumos(new ArrayList<>())
+                    .build();
+            evento.getInsumos().add(Insumo.builder().nome("Insumo").valor(BigDecimal.ONE).evento(evento).build());
+            em.persist(evento);
+        }
+        em.flush();
+        em.clear();
+        stats.clear();
+        return LINHAS + 1;
+    }
+
+    @Test
+    void eventosSimplesDoCliente_umaQuery() throws Exception {
+        int eventos = eventosExtrasDoCliente();
+
+        var dtos = eventoService.getEventosSimplesByClienteId(clienteId);
+        mapper.writeValueAsString(dtos);
+        assertEquals(eventos, dtos.size());
+        assertEquals(1, statements());
+        assertEquals(0, stats.getEntityLoadCount());
+    }
+
+    @Test
+    void detalheDoCliente_duasQueries() throws Exception {
+        int eventos = eventosExtrasDoCliente();
+
+        var dto = clienteService.getClienteDetailsById(clienteId);
+        mapper.writeValueAsString(dto);
+        assertEquals(eventos, dto.eventos().size());
+        // cliente, eventos do cliente; só o Cliente vira entidade
+        assertEquals(2, statements());
+        assertEquals(1, stats.getEntityLoadCount());
+    }
+
+    @Test
+    void listarOrcamentos_umaQueryPorColecao() throws Exception {
+        String json = mapper.writeValueAsString(orcamentoService.listAll());
+        assertTrue(json.contains("Jantar 2"));
+        // orçamentos+cliente, funcionários, cardápios, itens
+        assertEquals(4, statements());
+    }
+
+    @Test
+    void detalheDoOrcamento_tresQueries() throws Exception {
+        String json = mapper.writeValueAsString(orcamentoService.getById(orcamentoId));
+        assertTrue(json.contains("Cozinheiro"));
+        // orçamento+cliente+funcionários, cardápios, itens
+        assertEquals(3, statements());
+    }
+
+    @Test
+    void pdfDoOrcamento_duasQueries() {
+        byte[] pdf = pdfService.generatePdfFromOrcamento(orcamentoService.getEntityForPdf(orcamentoId));
+        assertTrue(pdf.length > 0);
+        // orçamento+cliente+cardápios, itens
+        assertEquals(2, statements());
+    }
+
+    @Test
+    void pdfEmLote_duasQueries() {
+        List<Long> ids = em
+                .createQuery("select o.id from Orcamento o", Long.class).getResultList();
+        stats.clear();
+
+        List<Orcamento> orcamentos = orcamentoService.getEntitiesForPdf(ids);
+        orcamentos.forEach(o -> assertTrue(pdfService.generatePdfFromOrcamento(o).length > 0));
+        assertEquals(ids.size(), orcamentos.size());
+        // orçamentos+clientes+cardápios, itens de todos os cardápios
+        assertEquals(2, statements());
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.controllers.AuthController;
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.entities.User;
+import br.com.papillon.eventos.auth.exception.LoginBloqueadoException;
+import br.com.papillon.eventos.auth.exception.LoginSobrecarregadoException;
+import br.com.papillon.eventos.auth.services.BcryptPool;
+import br.com.papillon.eventos.auth.services.LoginThrottle;
+import br.com.papillon.eventos.auth.services.RefreshTokenService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.Callable;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AuthControllerTests {
+
+    private static final String LOGIN = "{\"username\":\"admin@papillon.com\",\"password\":\"segredo\"}";
+
+    private AuthenticationManager authManager;
+    private LoginThrottle throttle;
+    private BcryptPool bcryptPool;
+    private RefreshTokenService refreshTokenService;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        authManager = mock(AuthenticationManager.class);
+        throttle = mock(LoginThrottle.class);
+        bcryptPool = mock(BcryptPool.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        UserDetailsService uds = mock(UserDetailsService.class);
+
+        User user = new User();
+        user.setUsername("admin@papillon.com");
+        user.setRole("ROLE_ADMIN");
+        when(uds.loadUserByUsername("admin@papillon.com")).thenReturn(new CustomUserDetails(user));
+        when(refreshTokenService.emitir(user)).thenReturn(new RefreshTokenService.Par("access", "refresh"));
+        when(bcryptPool.executar(any())).thenAnswer(inv -> inv.<Callable<?>>getArgument(0).call());
+
+        AuthController controller = new AuthController();
+        ReflectionTestUtils.setField(controller, "authManager", authManager);
+        ReflectionTestUtils.setField(controller, "userDetailsService", uds);
+        ReflectionTestUtils.setField(controller, "refreshTokenService", refreshTokenService);
+        ReflectionTestUtils.setField(controller, "loginThrottle", throttle);
+        ReflectionTestUtils.setField(controller, "bcryptPool", bcryptPool);
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void login_ok_autenticaPeloPool() throws Exception {
+        mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN)
+                        .with(r -> { r.setRemoteAddr("10.0.0.1"); return r; }))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("access"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh"));
+
+        verify(throttle).verificar("admin@papillon.com", "10.0.0.1");
+        verify(bcryptPool).executar(any());
+        verify(authManager).authenticate(any());
+    }
+
+    @Test
+    void login_bloqueado_429ComRetryAfter() throws Exception {
+        doThrow(new LoginBloqueadoException(12)).when(throttle).verificar(any(), any());
+
+        mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"));
+
+        verifyNoInteractions(bcryptPool, authManager);
+    }
+
+    @Test
+    void login_poolCheio_503() throws Exception {
+        doThrow(new LoginSobrecarregadoException()).when(bcryptPool).executar(any());
+
+        mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isServiceUnavailable());
+
+        verifyNoInteractions(authManager);
+    }
+
+    @Test
+    void refresh_naoAutentica() throws Exception {
+        when(refreshTokenService.rotacionar("r1")).thenReturn(new RefreshTokenService.Par("a2", "r2"));
+
+        mvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"r1\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").value("r2"));
+
+        verifyNoInteractions(authManager, bcryptPool, throttle);
+    }
+}
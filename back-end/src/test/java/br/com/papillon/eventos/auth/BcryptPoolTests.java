@@ -0,0 +1,75 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.config.BcryptExecutorConfig;
+import br.com.papillon.eventos.auth.exception.LoginSobrecarregadoException;
+import br.com.papillon.eventos.auth.services.BcryptPool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BcryptPoolTests {
+
+    private ThreadPoolExecutor executor;
+    private SimpleMeterRegistry registry;
+    private BcryptPool pool;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BcryptExecutorConfig().bcryptExecutor(1, 1);
+        registry = new SimpleMeterRegistry();
+        pool = new BcryptPool(executor, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testExecutar_RodaNoPool() {
+        String thread = pool.executar(() -> Thread.currentThread().getName());
+
+        assertTrue(thread.startsWith("bcrypt-"));
+        assertEquals(1, registry.get("auth.login.espera").timer().count());
+    }
+
+    @Test
+    void testExecutar_PropagaAExcecaoOriginal() {
+        assertThrows(BadCredentialsException.class, () -> pool.executar(() -> {
+            throw new BadCredentialsException("senha errada");
+        }));
+    }
+
+    @Test
+    void testExecutar_PoolEFilaCheios_503() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CompletableFuture<Object> emAndamento = CompletableFuture.supplyAsync(() -> pool.executar(() -> {
+            ocupado.countDown();
+            return liberar.await(5, TimeUnit.SECONDS);
+        }));
+        ocupado.await();
+        CompletableFuture<Object> naFila = CompletableFuture.supplyAsync(() -> pool.executar(() -> true));
+        while (executor.getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        assertEquals(1.0, registry.get("auth.login.fila").gauge().value());
+        assertThrows(LoginSobrecarregadoException.class, () -> pool.executar(() -> true));
+        assertEquals(1, registry.get("auth.login.rejeitados").tag("motivo", "sobrecarga").counter().count());
+
+        liberar.countDown();
+        assertEquals(true, emAndamento.get());
+        assertEquals(true, naFila.get());
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.filters.JwtFilter;
+import br.com.papillon.eventos.auth.services.TokenService;
+import br.com.papillon.eventos.auth.services.UserDetailsCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// mvn -Pbench test-compile exec:exec -Dbench=JwtFilterBenchmark
+// "parserPorPedido" é o que o JwtFilter fazia antes: parserBuilder().build() e verificação do HMAC a cada pedido.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "BtX9KYc5P7fDkLdZgEsmN2WpQnR9sTfKX3YrvNbcA6Q=";
+
+    private String token;
+    private TokenService semCache;
+    private TokenService comCache;
+    private JwtFilter filtro;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        semCache = new TokenService(SECRET, 0, Duration.ofMinutes(15), Clock.systemUTC());
+        comCache = new TokenService(SECRET, 1024, Duration.ofMinutes(15), Clock.systemUTC());
+        token = comCache.gerar(CustomUserDetails.fromClaims("admin@papillon.com", "ROLE_ADMIN"));
+
+        filtro = new JwtFilter(comCache, null, new UserDetailsCache(100, 300), JwtFilter.ModoPrincipal.CLAIMS,
+                new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", "/api/orcamento");
+        request.setServletPath("/api/orcamento");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public Claims parserPorPedido() {
+        Key k = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        return Jwts.parserBuilder().setSigningKey(k).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims parserCompartilhado() {
+        return semCache.verificar(token);
+    }
+
+    @Benchmark
+    public Claims tokenEmCache() {
+        return comCache.verificar(token);
+    }
+
+    // o filtro inteiro no modo CLAIMS, com o token em cache
+    @Benchmark
+    public Object filtroCompleto() throws Exception {
+        SecurityContextHolder.clearContext();
+        filtro.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.entities.User;
+import br.com.papillon.eventos.auth.filters.JwtFilter;
+import br.com.papillon.eventos.auth.services.TokenService;
+import br.com.papillon.eventos.auth.services.UserDetailsCache;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtFilterTests {
+
+    private static final String SECRET = "BtX9KYc5P7fDkLdZgEsmN2WpQnR9sTfKX3YrvNbcA6Q=";
+
+    private UserDetailsService uds;
+    private UserDetailsCache cache;
+    private TokenService tokenService;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        uds = mock(UserDetailsService.class);
+        registry = new SimpleMeterRegistry();
+        cache = new UserDetailsCache(100, 300);
+        tokenService = new TokenService(SECRET, 100, Duration.ofMinutes(15), Clock.systemUTC());
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("admin@papillon.com");
+        user.setPassword("hash");
+        user.setRole("ROLE_ADMIN");
+        when(uds.loadUserByUsername("admin@papillon.com")).thenReturn(new CustomUserDetails(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static String token(boolean comRole) {
+        JwtBuilder jwt = Jwts.builder()
+                .setSubject("admin@papillon.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        if (comRole) jwt.claim("role", "ROLE_ADMIN");
+        return jwt.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private Authentication filtrar(JwtFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orcamento");
+        request.setServletPath("/api/orcamento");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    void testModoClaims_NaoConsultaOBanco() throws Exception {
+        JwtFilter filter = new JwtFilter(tokenService, uds, cache, JwtFilter.ModoPrincipal.CLAIMS, registry);
+
+        Authentication auth = filtrar(filter, token(true));
+
+        assertNotNull(auth);
+        assertEquals("admin@papillon.com", ((CustomUserDetails) auth.getPrincipal()).getUsername());
+        assertEquals("ROLE_ADMIN", auth.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(uds);
+    }
+
+    @Test
+    void testModoClaims_TokenSemRoleUsaOCache() throws Exception {
+        JwtFilter filter = new JwtFilter(tokenService, uds, cache, JwtFilter.ModoPrincipal.CLAIMS, registry);
+
+        filtrar(filter, token(false));
+        Authentication auth = filtrar(filter, token(false));
+
+        assertEquals(7L, ((CustomUserDetails) auth.getPrincipal()).getUser().getId());
+        verify(uds, times(1)).loadUserByUsername("admin@papillon.com");
+    }
+
+    @Test
+    void testModoCache_UmaConsultaParaVariosPedidos() throws Exception {
+        JwtFilter filter = new JwtFilter(tokenService, uds, cache, JwtFilter.ModoPrincipal.CACHE, registry);
+
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(filtrar(filter, token(true)));
+        }
+
+        verify(uds, times(1)).loadUserByUsername("admin@papillon.com");
+    }
+
+    @Test
+    void testModoCache_UsuarioRemovidoFicaSemAutenticacao() throws Exception {
+        when(uds.loadUserByUsername("admin@papillon.com")).thenThrow(new UsernameNotFoundException("removido"));
+        JwtFilter filter = new JwtFilter(tokenService, uds, cache, JwtFilter.ModoPrincipal.CACHE, registry);
+
+        assertNull(filtrar(filter, token(true)));
+    }
+
+    @Test
+    void testTokenInvalido_FicaSemAutenticacao() throws Exception {
+        JwtFilter filter = new JwtFilter(tokenService, uds, cache, JwtFilter.ModoPrincipal.CLAIMS, registry);
+
+        assertNull(filtrar(filter, token(true) + "x"));
+    }
+
+    @Test
+    void testTempoDoFiltroPorResultado() throws Exception {
+        JwtFilter filter = new JwtFilter(tokenService, uds, cache, JwtFilter.ModoPrincipal.CLAIMS, registry);
+
+        filtrar(filter, token(true));
+        filtrar(filter, token(true) + "x");
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orcamento"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertEquals(1, registry.get("auth.jwt.filtro").tag("resultado", "autenticado").timer().count());
+        assertEquals(1, registry.get("auth.jwt.filtro").tag("resultado", "invalido").timer().count());
+        assertEquals(1, registry.get("auth.jwt.filtro").tag("resultado", "anonimo").timer().count());
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.exception.LoginBloqueadoException;
+import br.com.papillon.eventos.auth.services.LoginThrottle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTests {
+
+    private final AtomicLong agora = new AtomicLong();
+    private SimpleMeterRegistry registry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // 3 por usuário (1 ficha a cada 20 s), 5 por IP (1 a cada 12 s)
+        throttle = new LoginThrottle(registry, 3, 3, 5, 5, 2, agora::get);
+    }
+
+    private double rejeitados(String motivo) {
+        return registry.get("auth.login.rejeitados").tag("motivo", motivo).counter().count();
+    }
+
+    @Test
+    void testUsuario_BloqueiaDepoisDaCapacidade() {
+        for (int i = 0; i < 3; i++) {
+            throttle.verificar("admin@papillon.com", "10.0.0." + i);
+        }
+
+        LoginBloqueadoException e = assertThrows(LoginBloqueadoException.class,
+                () -> throttle.verificar("ADMIN@papillon.com ", "10.0.0.9"));
+        assertEquals(20, e.getRetryAfterSegundos());
+        assertEquals(1, rejeitados("usuario"));
+    }
+
+    @Test
+    void testUsuario_RecuperaFichasComOTempo() {
+        for (int i = 0; i < 3; i++) {
+            throttle.verificar("admin@papillon.com", "10.0.0." + i);
+        }
+        agora.addAndGet(TimeUnit.SECONDS.toNanos(20));
+
+        throttle.verificar("admin@papillon.com", "10.0.0.9");
+        assertThrows(LoginBloqueadoException.class, () -> throttle.verificar("admin@papillon.com", "10.0.0.9"));
+    }
+
+    @Test
+    void testIp_BloqueiaMesmoTrocandoDeUsuario() {
+        for (int i = 0; i < 5; i++) {
+            throttle.verificar("u" + i + "@papillon.com", "10.0.0.1");
+        }
+
+        assertThrows(LoginBloqueadoException.class, () -> throttle.verificar("outro@papillon.com", "10.0.0.1"));
+        throttle.verificar("outro@papillon.com", "10.0.0.2");
+        assertEquals(1, rejeitados("ip"));
+        assertEquals(0, rejeitados("usuario"));
+    }
+
+    @Test
+    void testListra_LimitaQuantidadeDeBaldes() {
+        // com no máximo 2 baldes por listra, milhares de usuários não crescem a memória
+        for (int i = 0; i < 10_000; i++) {
+            agora.addAndGet(TimeUnit.SECONDS.toNanos(12)); // o IP nunca fica sem ficha
+            throttle.verificar("u" + i + "@papillon.com", "10.0.0.1");
+        }
+        assertEquals(0, rejeitados("usuario") + rejeitados("ip"));
+    }
+}
@@ -0,0 +1,189 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.entities.User;
+import br.com.papillon.eventos.auth.exception.RefreshTokenInvalidoException;
+import br.com.papillon.eventos.auth.repositories.RefreshTokenRepository;
+import br.com.papillon.eventos.auth.repositories.UserRepository;
+import br.com.papillon.eventos.auth.services.RefreshTokenService;
+import br.com.papillon.eventos.auth.services.TokenService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+// sem a transação do teste: cada chamada commita, como num pedido de verdade
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenServiceTests {
+
+    private static final String SECRET = "BtX9KYc5P7fDkLdZgEsmN2WpQnR9sTfKX3YrvNbcA6Q=";
+
+    @Autowired
+    private RefreshTokenRepository repo;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RelogioAjustavel relogio;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RefreshTokenService service;
+
+    private User user;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        RelogioAjustavel relogio() {
+            return new RelogioAjustavel(Instant.EPOCH);
+        }
+
+        @Bean
+        TokenService tokenService(RelogioAjustavel relogio) {
+            return new TokenService(SECRET, 0, Duration.ofMinutes(15), relogio);
+        }
+
+        @Bean
+        RefreshTokenService refreshTokenService(RefreshTokenRepository repo, TokenService tokenService,
+                                                RelogioAjustavel relogio) {
+            return new RefreshTokenService(repo, tokenService, Duration.ofDays(7), Duration.ofSeconds(30), relogio);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // cada teste começa depois de tudo o que os anteriores gravaram
+        relogio.avancar(Duration.ofDays(30));
+
+        user = new User();
+        user.setUsername("u" + System.nanoTime() + "@papillon.com");
+        user.setPassword("hash");
+        user.setRole("ROLE_ADMIN");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void rotacionar_devolveParNovoEAccessTokenValido() {
+        RefreshTokenService.Par login = service.emitir(user);
+
+        RefreshTokenService.Par novo = service.rotacionar(login.refreshToken());
+
+        assertThat(novo.refreshToken()).isNotEqualTo(login.refreshToken());
+        assertThat(tokenService.verificar(novo.accessToken()).getSubject()).isEqualTo(user.getUsername());
+        assertThat(repo.findAll()).noneMatch(t -> t.getTokenHash().equals(login.refreshToken()));
+    }
+
+    @Test
+    void rotacionar_tokenJaUsadoDentroDaTolerancia_naoRevogaAFamilia() {
+        RefreshTokenService.Par login = service.emitir(user);
+        RefreshTokenService.Par novo = service.rotacionar(login.refreshToken());
+
+        relogio.avancar(Duration.ofSeconds(5));
+        assertThatThrownBy(() -> service.rotacionar(login.refreshToken()))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+
+        assertThat(service.rotacionar(novo.refreshToken())).isNotNull();
+    }
+
+    @Test
+    void rotacionar_reusoDepoisDaTolerancia_revogaAFamilia() {
+        RefreshTokenService.Par login = service.emitir(user);
+        RefreshTokenService.Par novo = service.rotacionar(login.refreshToken());
+
+        relogio.avancar(Duration.ofMinutes(5));
+        assertThatThrownBy(() -> service.rotacionar(login.refreshToken()))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+
+        assertThatThrownBy(() -> service.rotacionar(novo.refreshToken()))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+    }
+
+    @Test
+    void rotacionar_expiradoOuDesconhecido() {
+        RefreshTokenService.Par login = service.emitir(user);
+        relogio.avancar(Duration.ofDays(7));
+
+        assertThatThrownBy(() -> service.rotacionar(login.refreshToken()))
+                .isInstanceOf(RefreshTokenInvalidoException.class).hasMessageContaining("expirado");
+        assertThatThrownBy(() -> service.rotacionar("nao-existe"))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+        assertThatThrownBy(() -> service.rotacionar(null))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+    }
+
+    @Test
+    void rotacionar_pedidosSimultaneos_soUmRenova() throws Exception {
+        RefreshTokenService.Par login = service.emitir(user);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Future<Boolean>> resultados = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                resultados.add(pool.submit(() -> {
+                    largada.await();
+                    try {
+                        service.rotacionar(login.refreshToken());
+                        return true;
+                    } catch (RefreshTokenInvalidoException e) {
+                        return false;
+                    }
+                }));
+            }
+            largada.countDown();
+            int renovados = 0;
+            for (Future<Boolean> r : resultados) {
+                if (r.get()) renovados++;
+            }
+            assertThat(renovados).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void revogar_invalidaAFamilia() {
+        RefreshTokenService.Par login = service.emitir(user);
+        RefreshTokenService.Par novo = service.rotacionar(login.refreshToken());
+
+        service.revogar(novo.refreshToken());
+
+        assertThatThrownBy(() -> service.rotacionar(novo.refreshToken()))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+    }
+
+    @Test
+    void limparExpirados_apagaSoOsVencidos() {
+        service.emitir(user);
+        relogio.avancar(Duration.ofDays(3));
+        service.emitir(user);
+        long antes = repo.count();
+
+        relogio.avancar(Duration.ofDays(5)); // o primeiro venceu, o segundo não
+        int apagados = service.limparExpirados();
+
+        assertThat(apagados).isGreaterThanOrEqualTo(1);
+        assertThat(repo.count()).isEqualTo(antes - apagados);
+        assertThat(repo.findAll()).allMatch(t -> t.getExpiraEm().isAfter(relogio.instant()));
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.papillon.eventos.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+// relógio parado que os testes avançam à mão
+class RelogioAjustavel extends Clock {
+
+    private volatile Instant agora;
+
+    RelogioAjustavel(Instant agora) {
+        this.agora = agora;
+    }
+
+    void avancar(Duration d) {
+        agora = agora.plus(d);
+    }
+
+    @Override
+    public Instant instant() {
+        return agora;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+}
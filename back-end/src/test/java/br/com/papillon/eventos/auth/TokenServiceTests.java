@@ -0,0 +1,105 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.services.TokenService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTests {
+
+    private static final String SECRET = "BtX9KYc5P7fDkLdZgEsmN2WpQnR9sTfKX3YrvNbcA6Q=";
+    private static final Instant INICIO = Instant.parse("2025-06-10T12:00:00Z");
+
+    private RelogioAjustavel relogio;
+    private TokenService service;
+
+    @BeforeEach
+    void setUp() {
+        relogio = new RelogioAjustavel(INICIO);
+        service = new TokenService(SECRET, 2, Duration.ofMinutes(15), relogio);
+    }
+
+    private String token(String username) {
+        return service.gerar(CustomUserDetails.fromClaims(username, "ROLE_ADMIN"));
+    }
+
+    @Test
+    void testGerarEVerificar() {
+        Claims claims = service.verificar(token("a@x.com"));
+
+        assertEquals("a@x.com", claims.getSubject());
+        assertEquals("ROLE_ADMIN", claims.get("role", String.class));
+        assertEquals(INICIO.plus(Duration.ofMinutes(15)), claims.getExpiration().toInstant());
+    }
+
+    @Test
+    void testVerificar_SegundaVezVemDoCache() {
+        String token = token("a@x.com");
+
+        Claims primeiro = service.verificar(token);
+        Claims segundo = service.verificar(token);
+
+        assertSame(primeiro, segundo);
+    }
+
+    @Test
+    void testVerificar_EntradaEmCacheNaoPassaDoExp() {
+        String token = token("a@x.com");
+        service.verificar(token);
+
+        relogio.avancar(Duration.ofMinutes(15).plusSeconds(1));
+
+        assertThrows(ExpiredJwtException.class, () -> service.verificar(token));
+    }
+
+    @Test
+    void testVerificar_CacheLimitado() {
+        String a = token("a@x.com");
+        Claims claimsA = service.verificar(a);
+        service.verificar(token("b@x.com"));
+        service.verificar(token("c@x.com")); // despeja "a"
+
+        assertNotSame(claimsA, service.verificar(a));
+    }
+
+    @Test
+    void testVerificar_AssinaturaInvalida() {
+        String token = token("a@x.com");
+        service.verificar(token);
+
+        assertThrows(JwtException.class, () -> service.verificar(token.substring(0, token.length() - 2) + "xx"));
+    }
+
+    @Test
+    void testVerificar_OutraChave() {
+        String alheio = Jwts.builder().setSubject("a@x.com")
+                .setExpiration(Date.from(INICIO.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(new byte[32]), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(JwtException.class, () -> service.verificar(alheio));
+    }
+
+    @Test
+    void testVerificar_SemExpNaoEntraNoCache() {
+        String semExp = Jwts.builder().setSubject("a@x.com")
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertNotSame(service.verificar(semExp), service.verificar(semExp));
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.entities.User;
+import br.com.papillon.eventos.auth.repositories.UserRepository;
+import br.com.papillon.eventos.auth.services.UserDetailsCache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// sem a transação do teste: o evict só acontece no commit de quem alterou o usuário
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(UserDetailsCache.class)
+class UserCacheEvictionTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsCache cache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    @AfterEach
+    void limpar() {
+        cache.clear();
+        userRepository.deleteAll();
+    }
+
+    private UserDetails carregar(String username) {
+        Function<String, UserDetails> banco = u -> {
+            consultas.incrementAndGet();
+            return userRepository.findByUsername(u).map(CustomUserDetails::new).orElse(null);
+        };
+        return cache.get(username, banco);
+    }
+
+    private User criar(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("hash");
+        user.setRole("ROLE_USER");
+        return userRepository.saveAndFlush(user);
+    }
+
+    private String papel(UserDetails user) {
+        return user.getAuthorities().iterator().next().getAuthority();
+    }
+
+    @Test
+    void alterarUsuario_tiraDoCache() {
+        User user = criar("admin@papillon.com");
+
+        carregar("admin@papillon.com");
+        carregar("admin@papillon.com");
+        assertEquals(1, consultas.get());
+
+        user.setRole("ROLE_ADMIN");
+        userRepository.saveAndFlush(user); // @PostUpdate, evict no commit
+
+        UserDetails atual = carregar("admin@papillon.com");
+        assertEquals(2, consultas.get());
+        assertEquals("ROLE_ADMIN", papel(atual));
+    }
+
+    @Test
+    void carregarEntreFlushECommit_naoFicaComALinhaAntiga() {
+        criar("gerente@papillon.com");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.findByUsername("gerente@papillon.com").orElseThrow();
+            user.setRole("ROLE_ADMIN");
+            userRepository.saveAndFlush(user); // @PostUpdate aqui, antes do commit
+
+            // outro pedido no meio: lê a linha ainda commitada (ROLE_USER) e a põe no cache
+            UserDetails lido = CompletableFuture.supplyAsync(() -> carregar("gerente@papillon.com")).join();
+            assertEquals("ROLE_USER", papel(lido));
+        });
+
+        assertEquals("ROLE_ADMIN", papel(carregar("gerente@papillon.com")));
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void trocarUsername_tiraONomeAntigoDoCache() {
+        criar("antigo@papillon.com");
+        assertNotNull(carregar("antigo@papillon.com"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.findByUsername("antigo@papillon.com").orElseThrow();
+            user.setUsername("novo@papillon.com");
+        });
+
+        assertNull(carregar("antigo@papillon.com"));
+        assertEquals(2, consultas.get());
+    }
+}
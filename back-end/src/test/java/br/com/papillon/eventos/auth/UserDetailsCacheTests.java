@@ -0,0 +1,85 @@
+package br.com.papillon.eventos.auth;
+
+import br.com.papillon.eventos.auth.entities.CustomUserDetails;
+import br.com.papillon.eventos.auth.services.UserDetailsCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsCacheTests {
+
+    private final AtomicLong agora = new AtomicLong();
+    private final AtomicInteger consultas = new AtomicInteger();
+    private UserDetailsCache cache;
+
+    private final Function<String, UserDetails> banco = username -> {
+        consultas.incrementAndGet();
+        return CustomUserDetails.fromClaims(username, "ROLE_ADMIN");
+    };
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserDetailsCache(2, 60, agora::get);
+    }
+
+    @Test
+    void testGet_ConsultaUmaVezDentroDoTtl() {
+        UserDetails primeiro = cache.get("a@x.com", banco);
+        UserDetails segundo = cache.get("a@x.com", banco);
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, consultas.get());
+    }
+
+    @Test
+    void testGet_ExpiraDepoisDoTtl() {
+        cache.get("a@x.com", banco);
+        agora.addAndGet(61_000_000_000L);
+
+        cache.get("a@x.com", banco);
+
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void testGet_DespejaOMenosUsadoAcimaDoLimite() {
+        cache.get("a@x.com", banco);
+        cache.get("b@x.com", banco);
+        cache.get("a@x.com", banco); // "b" passa a ser o menos usado
+        cache.get("c@x.com", banco);
+
+        cache.get("a@x.com", banco);
+        assertEquals(3, consultas.get());
+        cache.get("b@x.com", banco);
+        assertEquals(4, consultas.get());
+    }
+
+    @Test
+    void testEvict_ForcaNovaConsulta() {
+        cache.get("a@x.com", banco);
+
+        cache.evict("a@x.com");
+        cache.get("a@x.com", banco);
+
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void testEvict_DuranteCarregamentoNaoGuardaValorAntigo() {
+        cache.get("a@x.com", username -> {
+            cache.evict(username); // usuário alterado enquanto o banco respondia
+            return banco.apply(username);
+        });
+
+        cache.get("a@x.com", banco);
+
+        assertEquals(2, consultas.get());
+    }
+}
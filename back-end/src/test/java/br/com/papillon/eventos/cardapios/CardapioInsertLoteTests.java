@@ -0,0 +1,69 @@
+package br.com.papillon.eventos.cardapios;
+
+import br.com.papillon.eventos.cardapios.dtos.CardapioCreateDto;
+import br.com.papillon.eventos.cardapios.dtos.CardapioDto;
+import br.com.papillon.eventos.cardapios.entities.Cardapio;
+import br.com.papillon.eventos.cardapios.entities.Item;
+import br.com.papillon.eventos.cardapios.services.CardapioService;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+// idas ao banco para gravar um cardápio de 50 itens: com IDENTITY eram 51 inserts, um por linha
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(CardapioService.class)
+class CardapioInsertLoteTests {
+
+    private static final int ITENS = 50;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private CardapioService cardapioService;
+
+    private Statistics estatisticas() {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private CardapioCreateDto cardapio(String nome) {
+        List<Item> itens = new ArrayList<>(IntStream.range(0, ITENS)
+                .mapToObj(i -> Item.builder().nome("Item " + i).tipo("Salgado").build())
+                .toList());
+        return new CardapioCreateDto(nome, itens);
+    }
+
+    @Test
+    void cardapioCom50Itens_gravaEmLote() {
+        // aquece as sequences: o primeiro bloco do pooled pede dois nextval
+        cardapioService.create(cardapio("Aquecimento"));
+        em.flush();
+        em.clear();
+        Statistics stats = estatisticas();
+        stats.clear();
+
+        CardapioDto salvo = cardapioService.create(cardapio("Coquetel"));
+        em.flush();
+
+        assertThat(stats.getEntityInsertCount()).isEqualTo(ITENS + 1);
+        // 1 nextval de cardapio_seq, 1 de item_seq, 1 lote com o cardápio e 1 lote com os 50 itens
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+
+        em.clear();
+        assertThat(em.find(Cardapio.class, salvo.id()).getItens()).hasSize(ITENS);
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.papillon.eventos.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cliente HTTP do gerador de carga. Um token compartilhado por todas as threads; quando a API responde 401/403
+ * (token de 15 minutos vencido), uma única thread renova pelo refresh token (ou refaz o login) e o pedido é repetido.
+ */
+class ApiCarga {
+
+    record Resposta(int status, JsonNode corpo) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String base;
+    private final ObjectMapper mapper;
+    private final String usuario;
+    private final String senha;
+
+    private volatile String token;
+    private String refreshToken;
+
+    ApiCarga(String base, ObjectMapper mapper, String usuario, String senha) {
+        this.base = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        this.mapper = mapper;
+        this.usuario = usuario;
+        this.senha = senha;
+    }
+
+    /** Cria o usuário se ainda não existir (400 "Usuário já existe" é esperado a partir da segunda execução). */
+    void registrarSeNecessario() {
+        Resposta r = enviar("POST", "/api/auth/register", Map.of("username", usuario, "password", senha), false, Corpo.JSON);
+        if (!r.ok() && r.status() != 400) {
+            throw new IllegalStateException("register respondeu " + r.status());
+        }
+    }
+
+    synchronized void login() {
+        Resposta r = enviar("POST", "/api/auth/login", Map.of("username", usuario, "password", senha), false, Corpo.JSON);
+        if (!r.ok()) throw new IllegalStateException("login respondeu " + r.status());
+        guardarTokens(r.corpo());
+    }
+
+    Resposta get(String caminho) {
+        return chamar("GET", caminho, null, Corpo.JSON);
+    }
+
+    /** GET de um binário (PDF): o corpo é lido e descartado, só o status interessa. */
+    Resposta baixar(String caminho) {
+        return chamar("GET", caminho, null, Corpo.DESCARTAR);
+    }
+
+    Resposta post(String caminho, Object corpo) {
+        return chamar("POST", caminho, corpo, Corpo.JSON);
+    }
+
+    Resposta patch(String caminho) {
+        return chamar("PATCH", caminho, null, Corpo.JSON);
+    }
+
+    private enum Corpo { JSON, DESCARTAR }
+
+    private Resposta chamar(String metodo, String caminho, Object corpo, Corpo leitura) {
+        String usado = token;
+        Resposta r = enviar(metodo, caminho, corpo, true, leitura);
+        if (r.status() == 401 || r.status() == 403) {
+            renovar(usado);
+            r = enviar(metodo, caminho, corpo, true, leitura);
+        }
+        return r;
+    }
+
+    // só renova se ninguém renovou depois que este pedido saiu com o token antigo
+    private synchronized void renovar(String vencido) {
+        if (!vencido.equals(token)) return;
+        Resposta r = enviar("POST", "/api/auth/refresh", Map.of("refreshToken", refreshToken), false, Corpo.JSON);
+        if (r.ok()) {
+            guardarTokens(r.corpo());
+        } else {
+            login();
+        }
+    }
+
+    private void guardarTokens(JsonNode corpo) {
+        refreshToken = corpo.path("refreshToken").asText();
+        token = corpo.path("token").asText();
+    }
+
+    private Resposta enviar(String metodo, String caminho, Object corpo, boolean autenticado, Corpo leitura) {
+        try {
+            HttpRequest.Builder req = HttpRequest.newBuilder(URI.create(base + caminho))
+                    .timeout(Duration.ofSeconds(30));
+            if (autenticado) req.header("Authorization", "Bearer " + token);
+            if (corpo != null) {
+                req.header("Content-Type", "application/json")
+                        .method(metodo, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(corpo)));
+            } else {
+                req.method(metodo, HttpRequest.BodyPublishers.noBody());
+            }
+            if (leitura == Corpo.DESCARTAR) {
+                HttpResponse<Void> r = http.send(req.build(), HttpResponse.BodyHandlers.discarding());
+                return new Resposta(r.statusCode(), null);
+            }
+            HttpResponse<byte[]> r = http.send(req.build(), HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode json = null;
+            boolean ehJson = r.headers().firstValue("Content-Type").orElse("").contains("json");
+            if (r.statusCode() >= 200 && r.statusCode() < 300 && ehJson && r.body().length > 0) {
+                json = mapper.readTree(r.body());
+            }
+            return new Resposta(r.statusCode(), json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
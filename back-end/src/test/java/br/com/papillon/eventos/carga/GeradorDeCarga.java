@@ -0,0 +1,345 @@
+package br.com.papillon.eventos.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Gerador de carga contra a API rodando (Postgres local ou o perfil h2):
+ *
+ *   mvn spring-boot:run -Dspring-boot.run.profiles=h2 -Dspring-boot.run.useTestClasspath=true
+ *   mvn -Pcarga test-compile exec:java -Dcarga.usuarios=16 -Dcarga.duracao=60
+ *
+ * Faz login uma vez, semeia orçamentos e eventos (fora da medição) e depois cada thread sorteia operações com os
+ * pesos de Operacao — a mistura de uso do painel: listar e abrir eventos, lançar insumos, criar e aceitar
+ * orçamentos e baixar o PDF da proposta. Sem carga.taxa cada thread manda o próximo pedido assim que o anterior
+ * responde (modelo fechado); com carga.taxa=N (pedidos/s no total) os pedidos saem num ritmo fixo e a latência
+ * conta a partir do horário previsto, então a fila que se forma quando o servidor atrasa entra nos percentis.
+ *
+ * O relatório sai no console e em target/carga/carga-&lt;commit&gt;-u&lt;usuarios&gt;-&lt;hora&gt;.json; com
+ * -Dcarga.comparar=&lt;json anterior&gt; mostra a variação de cada operação em relação a outra execução.
+ * Para comparar commits, use os mesmos carga.usuarios, carga.duracao, carga.taxa e carga.semente.
+ *
+ * carga.usuarios aceita uma lista (ex. 50,200,800): cada nível roda em seguida e no fim sai um resumo da vazão e
+ * da latência por nível. Para comparar threads comuns com virtual threads em muitas conexões, rode a mesma lista
+ * contra a aplicação nos dois modos, cada uma numa pasta, e compare a segunda com a primeira:
+ *
+ *   -Dcarga.usuarios=50,200,800 -Dcarga.saida=target/carga/plataforma
+ *   -Dcarga.usuarios=50,200,800 -Dcarga.saida=target/carga/virtual -Dcarga.comparar=target/carga/plataforma
+ *
+ * (com uma pasta em carga.comparar, cada nível é comparado com o relatório mais recente do mesmo nível nela)
+ */
+public class GeradorDeCarga {
+
+    enum Operacao {
+        LISTAR_EVENTOS(25),
+        DETALHE_EVENTO(20),
+        CRIAR_EVENTO(5),
+        CRIAR_ORCAMENTO(10),
+        ACEITAR_ORCAMENTO(5),
+        ADICIONAR_INSUMO(20),
+        BAIXAR_PDF(10);
+
+        final int peso;
+
+        Operacao(int peso) {
+            this.peso = peso;
+        }
+    }
+
+    private static final Operacao[] SORTEIO = sorteio();
+    private static final int CLIENTES = 10;
+
+    private final ApiCarga api;
+    private final long duracaoNanos;
+    private final long aquecimentoNanos;
+    private final double taxa;
+    private final long semente;
+
+    private final List<Long> eventos = new CopyOnWriteArrayList<>();
+    private final List<Long> orcamentos = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<Long> pendentes = new ConcurrentLinkedQueue<>();
+    private final List<Map<String, Object>> clientes = new ArrayList<>();
+    private final List<Long> clienteIds = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sequencia = new AtomicInteger();
+
+    GeradorDeCarga(ApiCarga api, int duracaoSegundos, int aquecimentoSegundos, double taxa, long semente) {
+        this.api = api;
+        this.duracaoNanos = TimeUnit.SECONDS.toNanos(duracaoSegundos);
+        this.aquecimentoNanos = TimeUnit.SECONDS.toNanos(aquecimentoSegundos);
+        this.taxa = taxa;
+        this.semente = semente;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("carga.url", "http://localhost:8080");
+        int[] niveis = Arrays.stream(System.getProperty("carga.usuarios", "8").split(","))
+                .mapToInt(u -> Integer.parseInt(u.trim())).toArray();
+        int duracao = Integer.getInteger("carga.duracao", 30);
+        int aquecimento = Integer.getInteger("carga.aquecimento", 10);
+        double taxa = Double.parseDouble(System.getProperty("carga.taxa", "0"));
+        long semente = Long.getLong("carga.semente", 42L);
+        Path saida = Path.of(System.getProperty("carga.saida", "target/carga"));
+        String comparar = System.getProperty("carga.comparar");
+
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        ApiCarga api = new ApiCarga(url, mapper,
+                System.getProperty("carga.usuario", "carga@papillon.com.br"), System.getProperty("carga.senha", "carga123"));
+        api.registrarSeNecessario();
+        api.login();
+
+        GeradorDeCarga gerador = new GeradorDeCarga(api, duracao, aquecimento, taxa, semente);
+        gerador.semear();
+
+        String commit = commit();
+        Map<Integer, RelatorioCarga.Linha> totais = new LinkedHashMap<>();
+        for (int usuarios : niveis) {
+            Map<String, Object> parametros = new LinkedHashMap<>();
+            parametros.put("url", url);
+            parametros.put("usuarios", usuarios);
+            parametros.put("duracao", duracao);
+            parametros.put("aquecimento", aquecimento);
+            parametros.put("taxa", taxa);
+            parametros.put("semente", semente);
+
+            String rotulo = commit + "-u" + usuarios + "-"
+                    + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            RelatorioCarga relatorio = RelatorioCarga.juntar(rotulo, parametros, duracao, gerador.executar(usuarios));
+            totais.put(usuarios, relatorio.getLinhas().get(relatorio.getLinhas().size() - 1));
+
+            System.out.print(relatorio.texto());
+            // procurado antes de gravar, para não comparar o relatório com ele mesmo quando a pasta é a mesma
+            Path anterior = comparar == null ? null : anterior(Path.of(comparar), usuarios);
+            Path arquivo = saida.resolve("carga-" + rotulo + ".json");
+            relatorio.gravar(arquivo, mapper);
+            System.out.println("relatório em " + arquivo);
+            if (anterior != null) {
+                System.out.print(relatorio.comparar(mapper.readTree(anterior.toFile())));
+            }
+        }
+        if (niveis.length > 1) {
+            System.out.print(RelatorioCarga.resumoPorNivel(totais));
+        }
+    }
+
+    // um arquivo é usado como está; numa pasta, o relatório mais recente com o mesmo número de usuários
+    private static Path anterior(Path comparar, int usuarios) throws IOException {
+        if (!Files.isDirectory(comparar)) return comparar;
+        try (Stream<Path> arquivos = Files.list(comparar)) {
+            return arquivos.filter(a -> a.getFileName().toString().contains("-u" + usuarios + "-"))
+                    .max(Comparator.comparingLong(a -> a.toFile().lastModified()))
+                    .orElse(null);
+        }
+    }
+
+    /** Orçamentos para aceitar e baixar, eventos para abrir e lançar insumos; nada disso entra nas amostras. */
+    void semear() {
+        for (int c = 0; c < CLIENTES; c++) {
+            Map<String, Object> cliente = new LinkedHashMap<>();
+            cliente.put("nome", "Cliente Carga " + c);
+            cliente.put("email", "carga" + c + "@papillon.com.br");
+            cliente.put("cpfCnpj", String.format("9%010d", c));
+            cliente.put("telefone", "8599999" + String.format("%04d", c));
+            clientes.add(cliente);
+        }
+        Random random = new Random(semente);
+        for (int i = 0; i < 2 * CLIENTES; i++) {
+            criarOrcamento(random);
+        }
+        for (int i = 0; i < CLIENTES; i++) {
+            aceitarOrcamento(random);
+        }
+        ApiCarga.Resposta pagina = api.get("/api/evento/page?size=100");
+        if (!pagina.ok()) throw new IllegalStateException("listagem de eventos respondeu " + pagina.status());
+        for (JsonNode e : pagina.corpo().path("eventos")) {
+            eventos.add(e.path("id").asLong());
+        }
+        if (eventos.isEmpty() || orcamentos.isEmpty()) {
+            throw new IllegalStateException("a semeadura não criou eventos/orçamentos");
+        }
+    }
+
+    List<RelatorioCarga.Amostras> executar(int usuarios) throws InterruptedException {
+        ExecutorService threads = Executors.newFixedThreadPool(usuarios);
+        List<RelatorioCarga.Amostras> porThread = new ArrayList<>();
+        List<Future<?>> tarefas = new ArrayList<>();
+        long inicio = System.nanoTime() + aquecimentoNanos;
+        long fim = inicio + duracaoNanos;
+        // no modelo aberto cada thread cuida de 1/usuarios da taxa total
+        long intervalo = taxa > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * usuarios / taxa) : 0;
+        for (int t = 0; t < usuarios; t++) {
+            RelatorioCarga.Amostras amostras = new RelatorioCarga.Amostras();
+            porThread.add(amostras);
+            Random random = new Random(semente + t + 1);
+            long defasagem = intervalo * t / usuarios;
+            tarefas.add(threads.submit(() -> rodar(random, amostras, inicio, fim, intervalo, defasagem)));
+        }
+        threads.shutdown();
+        if (!threads.awaitTermination(duracaoNanos + aquecimentoNanos + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS)) {
+            threads.shutdownNow();
+        }
+        for (Future<?> f : tarefas) {
+            try {
+                f.get();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return porThread;
+    }
+
+    private void rodar(Random random, RelatorioCarga.Amostras amostras, long inicio, long fim,
+                       long intervalo, long defasagem) {
+        long previsto = System.nanoTime() + defasagem;
+        while (true) {
+            if (intervalo > 0) {
+                long espera = previsto - System.nanoTime();
+                dormir(espera);
+            }
+            long partida = intervalo > 0 ? previsto : System.nanoTime();
+            if (partida >= fim) return;
+
+            Operacao op = SORTEIO[random.nextInt(SORTEIO.length)];
+            boolean ok;
+            try {
+                ok = executar(op, random);
+            } catch (RuntimeException e) {
+                ok = false;
+            }
+            long agora = System.nanoTime();
+            if (partida >= inicio) {
+                amostras.registrar(op.name(), agora - partida, !ok);
+            }
+            previsto += intervalo;
+        }
+    }
+
+    private boolean executar(Operacao op, Random random) {
+        return switch (op) {
+            case LISTAR_EVENTOS -> api.get("/api/evento/page?size=20").ok();
+            case DETALHE_EVENTO -> api.get("/api/evento/" + sortear(eventos, random)).ok();
+            case CRIAR_EVENTO -> criarEvento(random);
+            case CRIAR_ORCAMENTO -> criarOrcamento(random);
+            case ACEITAR_ORCAMENTO -> aceitarOrcamento(random);
+            case ADICIONAR_INSUMO -> adicionarInsumo(random);
+            case BAIXAR_PDF -> api.baixar("/api/orcamento/" + sortear(orcamentos, random) + "/pdf").ok();
+        };
+    }
+
+    private boolean criarEvento(Random random) {
+        Map<String, Object> dto = new LinkedHashMap<>();
+        dto.put("nome", "Evento Carga " + sequencia.incrementAndGet());
+        dto.put("clienteId", sortear(clienteIds, random));
+        dto.put("data", LocalDate.now().plusDays(30 + random.nextInt(300)));
+        dto.put("valor", new BigDecimal(2000 + random.nextInt(8000)));
+        dto.put("status", "CONFIRMADO");
+        ApiCarga.Resposta r = api.post("/api/evento", dto);
+        if (r.ok()) eventos.add(r.corpo().path("id").asLong());
+        return r.ok();
+    }
+
+    private boolean criarOrcamento(Random random) {
+        LocalDate data = LocalDate.now().plusDays(30 + random.nextInt(300));
+        List<Map<String, Object>> itens = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            itens.add(Map.of("nome", "Item " + i, "tipo", i % 2 == 0 ? "Salgado" : "Doce"));
+        }
+        List<Map<String, Object>> funcionarios = new ArrayList<>();
+        for (int f = 0; f < 3; f++) {
+            funcionarios.add(Map.of("nome", "Funcionário " + f, "funcao", "Garçom", "valor", new BigDecimal("150.00")));
+        }
+        Map<String, Object> dto = new LinkedHashMap<>();
+        dto.put("cliente", clientes.get(random.nextInt(clientes.size())));
+        dto.put("dataDoEvento", data);
+        dto.put("quantidadePessoas", 50 + random.nextInt(200));
+        dto.put("valorPorPessoa", new BigDecimal("85.00"));
+        dto.put("dataLimite", LocalDate.now().plusDays(15));
+        dto.put("cardapios", List.of(Map.of("nome", "Cardápio Carga", "itens", itens)));
+        dto.put("funcionarios", funcionarios);
+        ApiCarga.Resposta r = api.post("/api/orcamento", dto);
+        if (r.ok()) {
+            long id = r.corpo().path("id").asLong();
+            orcamentos.add(id);
+            pendentes.add(id);
+            long clienteId = r.corpo().path("cliente").path("id").asLong();
+            if (clienteIds.size() < CLIENTES && !clienteIds.contains(clienteId)) clienteIds.add(clienteId);
+        }
+        return r.ok();
+    }
+
+    // sem orçamento pendente na fila, cria um (o aceite depende de existir o que aceitar)
+    private boolean aceitarOrcamento(Random random) {
+        Long id = pendentes.poll();
+        if (id == null) return criarOrcamento(random);
+        ApiCarga.Resposta r = api.patch("/api/orcamento/" + id + "/status/ACEITO");
+        // o evento criado pelo aceite não entra no sorteio: buscá-lo seria um pedido a mais dentro da medição
+        return r.ok();
+    }
+
+    private boolean adicionarInsumo(Random random) {
+        Map<String, Object> dto = new LinkedHashMap<>();
+        dto.put("nome", "Insumo Carga " + random.nextInt(1000));
+        dto.put("valor", new BigDecimal(20 + random.nextInt(480)));
+        dto.put("metodoPagamento", "PIX");
+        dto.put("eventoId", sortear(eventos, random));
+        return api.post("/api/insumo", dto).ok();
+    }
+
+    private static long sortear(List<Long> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static Operacao[] sorteio() {
+        List<Operacao> lista = new ArrayList<>();
+        for (Operacao op : Operacao.values()) {
+            for (int i = 0; i < op.peso; i++) lista.add(op);
+        }
+        return lista.toArray(Operacao[]::new);
+    }
+
+    private static void dormir(long nanos) {
+        if (nanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // commit atual para o nome do relatório; fora de um repositório git fica "local"
+    private static String commit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String sha = new String(git.getInputStream().readAllBytes()).trim();
+            return git.waitFor() == 0 && !sha.isEmpty() ? sha : "local";
+        } catch (IOException e) {
+            return "local";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "local";
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.papillon.eventos.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resultado de uma execução do GeradorDeCarga: por operação, pedidos, erros, vazão e latência (p50/p95/p99/máx,
+ * percentil pelo posto mais próximo sobre todas as amostras). Sai em texto e em JSON; o JSON de uma execução
+ * anterior (outro commit) pode ser comparado com o atual.
+ */
+public class RelatorioCarga {
+
+    public static final String TOTAL = "TOTAL";
+
+    public record Linha(String operacao, long pedidos, long erros, double porSegundo,
+                        double p50Ms, double p95Ms, double p99Ms, double maxMs) {}
+
+    /** Amostras de uma thread do gerador, sem sincronização; as de todas as threads são juntadas no fim. */
+    public static class Amostras {
+        private final Map<String, Serie> series = new LinkedHashMap<>();
+
+        public void registrar(String operacao, long nanos, boolean erro) {
+            series.computeIfAbsent(operacao, o -> new Serie()).adicionar(nanos, erro);
+        }
+    }
+
+    private static class Serie {
+        long[] nanos = new long[1024];
+        int n;
+        long erros;
+
+        void adicionar(long valor, boolean erro) {
+            if (n == nanos.length) nanos = Arrays.copyOf(nanos, n * 2);
+            nanos[n++] = valor;
+            if (erro) erros++;
+        }
+
+        void juntar(Serie outra) {
+            if (n + outra.n > nanos.length) nanos = Arrays.copyOf(nanos, n + outra.n);
+            System.arraycopy(outra.nanos, 0, nanos, n, outra.n);
+            n += outra.n;
+            erros += outra.erros;
+        }
+    }
+
+    private final String rotulo;
+    private final Map<String, Object> parametros;
+    private final List<Linha> linhas;
+
+    private RelatorioCarga(String rotulo, Map<String, Object> parametros, List<Linha> linhas) {
+        this.rotulo = rotulo;
+        this.parametros = parametros;
+        this.linhas = linhas;
+    }
+
+    public static RelatorioCarga juntar(String rotulo, Map<String, Object> parametros, double segundos,
+                                        List<Amostras> porThread) {
+        // em ordem alfabética, para que relatórios de execuções diferentes fiquem na mesma ordem
+        Map<String, Serie> series = new TreeMap<>();
+        Serie total = new Serie();
+        for (Amostras a : porThread) {
+            a.series.forEach((op, s) -> {
+                series.computeIfAbsent(op, o -> new Serie()).juntar(s);
+                total.juntar(s);
+            });
+        }
+        List<Linha> linhas = new ArrayList<>();
+        series.forEach((op, s) -> linhas.add(linha(op, s, segundos)));
+        linhas.add(linha(TOTAL, total, segundos));
+        return new RelatorioCarga(rotulo, parametros, linhas);
+    }
+
+    private static Linha linha(String operacao, Serie s, double segundos) {
+        long[] ordenado = Arrays.copyOf(s.nanos, s.n);
+        Arrays.sort(ordenado);
+        return new Linha(operacao, s.n, s.erros, s.n / segundos,
+                ms(percentil(ordenado, 0.50)), ms(percentil(ordenado, 0.95)), ms(percentil(ordenado, 0.99)),
+                ms(ordenado.length == 0 ? 0 : ordenado[ordenado.length - 1]));
+    }
+
+    static long percentil(long[] ordenado, double p) {
+        if (ordenado.length == 0) return 0;
+        int posto = (int) Math.ceil(p * ordenado.length);
+        return ordenado[Math.max(0, posto - 1)];
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public List<Linha> getLinhas() {
+        return linhas;
+    }
+
+    public String texto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("carga ").append(rotulo).append(' ').append(parametros).append('\n');
+        sb.append(String.format(Locale.ROOT, "%-20s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operacao", "pedidos", "erros", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Linha l : linhas) {
+            sb.append(String.format(Locale.ROOT, "%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    l.operacao(), l.pedidos(), l.erros(), l.porSegundo(),
+                    l.p50Ms(), l.p95Ms(), l.p99Ms(), l.maxMs()));
+        }
+        return sb.toString();
+    }
+
+    public void gravar(Path arquivo, ObjectMapper mapper) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("rotulo", rotulo);
+        json.put("parametros", parametros);
+        json.put("operacoes", linhas);
+        Files.createDirectories(arquivo.toAbsolutePath().getParent());
+        mapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo.toFile(), json);
+    }
+
+    /** Linha TOTAL de cada nível de usuários simultâneos de uma mesma execução, para ver onde a vazão para de subir. */
+    public static String resumoPorNivel(Map<Integer, Linha> totais) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-9s %9s %7s %9s %9s %9s %9s%n",
+                "usuarios", "pedidos", "erros", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        totais.forEach((usuarios, l) -> sb.append(String.format(Locale.ROOT, "%-9d %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                usuarios, l.pedidos(), l.erros(), l.porSegundo(), l.p50Ms(), l.p95Ms(), l.p99Ms())));
+        return sb.toString();
+    }
+
+    /** Variação de cada operação em relação a um relatório gravado antes (p95/p99 maiores ou vazão menor = pior). */
+    public String comparar(JsonNode anterior) {
+        Map<String, JsonNode> antes = new LinkedHashMap<>();
+        anterior.path("operacoes").forEach(o -> antes.put(o.path("operacao").asText(), o));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("comparado com ").append(anterior.path("rotulo").asText()).append('\n');
+        sb.append(String.format(Locale.ROOT, "%-20s %16s %16s %16s %16s%n",
+                "operacao", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        for (Linha l : linhas) {
+            JsonNode a = antes.get(l.operacao());
+            if (a == null) continue;
+            sb.append(String.format(Locale.ROOT, "%-20s %16s %16s %16s %16s%n", l.operacao(),
+                    variacao(a.path("porSegundo").asDouble(), l.porSegundo()),
+                    variacao(a.path("p50Ms").asDouble(), l.p50Ms()),
+                    variacao(a.path("p95Ms").asDouble(), l.p95Ms()),
+                    variacao(a.path("p99Ms").asDouble(), l.p99Ms())));
+        }
+        return sb.toString();
+    }
+
+    static String variacao(double antes, double depois) {
+        if (antes == 0) return String.format(Locale.ROOT, "%.2f", depois);
+        return String.format(Locale.ROOT, "%.2f (%+.0f%%)", depois, (depois - antes) * 100 / antes);
+    }
+}
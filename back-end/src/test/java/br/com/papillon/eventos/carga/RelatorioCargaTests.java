@@ -0,0 +1,90 @@
+package br.com.papillon.eventos.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RelatorioCargaTests {
+
+    @Test
+    void testPercentilPeloPostoMaisProximo() {
+        long[] ordenado = new long[100];
+        for (int i = 0; i < 100; i++) ordenado[i] = i + 1;
+
+        assertThat(RelatorioCarga.percentil(ordenado, 0.50)).isEqualTo(50);
+        assertThat(RelatorioCarga.percentil(ordenado, 0.95)).isEqualTo(95);
+        assertThat(RelatorioCarga.percentil(ordenado, 0.99)).isEqualTo(99);
+        assertThat(RelatorioCarga.percentil(new long[]{7}, 0.99)).isEqualTo(7);
+        assertThat(RelatorioCarga.percentil(new long[0], 0.5)).isZero();
+    }
+
+    @Test
+    void testJuntaThreadsETotaliza() {
+        RelatorioCarga.Amostras a = new RelatorioCarga.Amostras();
+        RelatorioCarga.Amostras b = new RelatorioCarga.Amostras();
+        for (int i = 1; i <= 1500; i++) a.registrar("LISTAR_EVENTOS", TimeUnit.MILLISECONDS.toNanos(i), false);
+        for (int i = 1; i <= 500; i++) b.registrar("LISTAR_EVENTOS", TimeUnit.MILLISECONDS.toNanos(1500 + i), i == 1);
+        b.registrar("BAIXAR_PDF", TimeUnit.MILLISECONDS.toNanos(40), true);
+
+        RelatorioCarga r = RelatorioCarga.juntar("teste", Map.of(), 10, List.of(a, b));
+
+        RelatorioCarga.Linha listar = r.getLinhas().get(1);
+        assertThat(listar.operacao()).isEqualTo("LISTAR_EVENTOS");
+        assertThat(listar.pedidos()).isEqualTo(2000);
+        assertThat(listar.erros()).isEqualTo(1);
+        assertThat(listar.porSegundo()).isEqualTo(200.0);
+        assertThat(listar.p50Ms()).isEqualTo(1000.0);
+        assertThat(listar.p99Ms()).isEqualTo(1980.0);
+        assertThat(listar.maxMs()).isEqualTo(2000.0);
+
+        assertThat(r.getLinhas().get(0).operacao()).isEqualTo("BAIXAR_PDF");
+        RelatorioCarga.Linha total = r.getLinhas().get(2);
+        assertThat(total.operacao()).isEqualTo(RelatorioCarga.TOTAL);
+        assertThat(total.pedidos()).isEqualTo(2001);
+        assertThat(total.erros()).isEqualTo(2);
+    }
+
+    @Test
+    void testResumoPorNivel() {
+        RelatorioCarga.Linha u50 = new RelatorioCarga.Linha(RelatorioCarga.TOTAL, 5000, 0, 500, 10, 30, 45, 80);
+        RelatorioCarga.Linha u800 = new RelatorioCarga.Linha(RelatorioCarga.TOTAL, 6000, 12, 600, 120, 900, 1500, 2000);
+
+        Map<Integer, RelatorioCarga.Linha> totais = new LinkedHashMap<>();
+        totais.put(50, u50);
+        totais.put(800, u800);
+        String resumo = RelatorioCarga.resumoPorNivel(totais);
+
+        String[] linhas = resumo.split("\n");
+        assertThat(linhas).hasSize(3);
+        assertThat(linhas[1]).startsWith("50 ").contains("500.0").contains("45.00");
+        assertThat(linhas[2]).startsWith("800 ").contains("600.0").contains("1500.00");
+    }
+
+    @Test
+    void testComparaComRelatorioGravado(@TempDir Path dir) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        RelatorioCarga.Amostras antes = new RelatorioCarga.Amostras();
+        RelatorioCarga.Amostras depois = new RelatorioCarga.Amostras();
+        for (int i = 0; i < 100; i++) {
+            antes.registrar("DETALHE_EVENTO", TimeUnit.MILLISECONDS.toNanos(20), false);
+            depois.registrar("DETALHE_EVENTO", TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        Path arquivo = dir.resolve("antes.json");
+        RelatorioCarga.juntar("abc123", Map.of("usuarios", 8), 10, List.of(antes)).gravar(arquivo, mapper);
+
+        JsonNode gravado = mapper.readTree(arquivo.toFile());
+        assertThat(gravado.path("operacoes").get(0).path("p95Ms").asDouble()).isEqualTo(20.0);
+
+        String comparacao = RelatorioCarga.juntar("def456", Map.of("usuarios", 8), 10, List.of(depois)).comparar(gravado);
+        assertThat(comparacao).contains("abc123").contains("DETALHE_EVENTO").contains("10.00 (-50%)");
+    }
+}
@@ -152,7 +152,7 @@ class ClienteServiceTests {
     @Test
     void testGetByCpfCnpjOrCreate_Found() {
         Cliente existente = buildCliente("Existente", "66666666666", "existente@email.com", "Caucaia");
-        when(clienteRepository.findByCpfCnpj("66666666666")).thenReturn(Optional.of(existente));
+        when(clienteRepository.upsertByCpfCnpj(any())).thenReturn(existente);
 
         ClienteDto dto = new ClienteDto(existente);
         Cliente resultado = clienteService.getByCpfCnpjOrCreate(dto);
@@ -162,15 +162,14 @@ class ClienteServiceTests {
     }
 
     @Test
-    void testGetByCpfCnpjOrCreate_CreateNew() {
+    void testGetByCpfCnpjOrCreate_CreateNew_NormalizaCpfCnpj() {
         Cliente novo = buildCliente("Novo", "77777777777", "novo@email.com", "Horizonte");
-        when(clienteRepository.findByCpfCnpj("77777777777")).thenReturn(Optional.empty());
-        when(clienteRepository.save(any())).thenReturn(novo);
+        when(clienteRepository.upsertByCpfCnpj(any())).thenReturn(novo);
 
-        ClienteDto dto = new ClienteDto(novo);
+        ClienteDto dto = new ClienteDto(null, "Novo", "novo@email.com", "777.777.777-77", "85999999999");
         Cliente resultado = clienteService.getByCpfCnpjOrCreate(dto);
 
         assertEquals("Novo", resultado.getNome());
-        verify(clienteRepository).save(any());
+        verify(clienteRepository).upsertByCpfCnpj(argThat(c -> "77777777777".equals(c.getCpfCnpj())));
     }
 }
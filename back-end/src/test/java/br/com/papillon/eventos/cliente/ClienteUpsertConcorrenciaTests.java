@@ -0,0 +1,127 @@
+package br.com.papillon.eventos.cliente;
+
+import br.com.papillon.eventos.cliente.dtos.ClienteDto;
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.cliente.repositories.ClienteRepository;
+import br.com.papillon.eventos.cliente.services.ClienteService;
+import br.com.papillon.eventos.evento.services.EventoService;
+
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+// schema do Flyway num H2 em modo PostgreSQL, que roda o mesmo INSERT ... ON CONFLICT do Postgres.
+// Sem a transação do teste: cada chamada commita e disputa a mesma chave de cpf_cnpj
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:upsert;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ClienteService.class, EventoService.class})
+class ClienteUpsertConcorrenciaTests {
+
+    private static final int THREADS = 16;
+    private static final int RODADAS = 10;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void pedidosSimultaneosDoMesmoCliente_criamUmaLinha() throws Exception {
+        // o mesmo CPF digitado de jeitos diferentes
+        String[] formatos = {"%s.%s.%s-%s", "%s%s%s%s", "%s %s %s %s"};
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int rodada = 0; rodada < RODADAS; rodada++) {
+                String[] partes = {"1" + rodada + "3", "456", "789", "0" + rodada};
+                CountDownLatch largada = new CountDownLatch(1);
+                List<Future<Long>> ids = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    String cpf = String.format(formatos[i % formatos.length], (Object[]) partes);
+                    ClienteDto dto = new ClienteDto(null, "Cliente " + i, "c@email.com", cpf, "8599999999");
+                    ids.add(pool.submit(() -> {
+                        largada.await();
+                        return clienteService.getByCpfCnpjOrCreate(dto).getId();
+                    }));
+                }
+                largada.countDown();
+
+                Set<Long> distintos = new HashSet<>();
+                for (Future<Long> id : ids) {
+                    distintos.add(id.get()); // falharia aqui se algum estourasse a unique
+                }
+                String normalizado = String.join("", partes);
+                assertThat(distintos).hasSize(1);
+                assertThat(clienteRepository.findByCpfCnpj(normalizado))
+                        .get().extracting(Cliente::getId).isEqualTo(distintos.iterator().next());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void clienteExistente_mantemDadosDoCadastro() {
+        Cliente original = clienteService.getByCpfCnpjOrCreate(
+                new ClienteDto(null, "Maria", "maria@email.com", "987.654.321-00", "8511111111"));
+
+        Cliente denovo = clienteService.getByCpfCnpjOrCreate(
+                new ClienteDto(null, "Outro Nome", "outro@email.com", "98765432100", "8522222222"));
+
+        assertThat(denovo.getId()).isEqualTo(original.getId());
+        assertThat(denovo.getNome()).isEqualTo("Maria");
+        assertThat(denovo.getCpfCnpj()).isEqualTo("98765432100");
+    }
+
+    @Test
+    void dadosInvalidos_naoInsere() {
+        assertThatThrownBy(() -> clienteService.getByCpfCnpjOrCreate(
+                new ClienteDto(null, "", "x@email.com", "111.222.333-44", "8500000000")))
+                .isInstanceOf(ConstraintViolationException.class);
+        assertThat(clienteRepository.existsByCpfCnpj("11122233344")).isFalse();
+    }
+
+    @Test
+    void sequenceAtrasDoMaiorId_erroClaroEmVezDeNoResult() {
+        // o próximo valor da clientes_seq já é o id de uma linha gravada por fora
+        Long proximo = jdbc.queryForObject("select nextval('clientes_seq')", Long.class);
+        jdbc.update("insert into clientes (id, nome, email, cpf_cnpj, telefone) values (?, 'Importado', "
+                + "'imp@email.com', '55566677788', '8500000000')", proximo);
+        jdbc.execute("alter sequence clientes_seq restart with " + proximo);
+
+        assertThatThrownBy(() -> clienteService.getByCpfCnpjOrCreate(
+                new ClienteDto(null, "Novo", "novo@email.com", "999.888.777-66", "8500000000")))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("99988877766")
+                .hasMessageContaining("clientes_seq");
+        assertThat(clienteRepository.existsByCpfCnpj("99988877766")).isFalse();
+    }
+}
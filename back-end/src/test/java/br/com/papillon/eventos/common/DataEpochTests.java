@@ -0,0 +1,40 @@
+package br.com.papillon.eventos.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// todo dia de 1950 a 2040 igual ao Timestamp.valueOf, inclusive nos dias em que o horário de verão
+// começava à meia-noite (America/Sao_Paulo) e nos fusos sem transição
+class DataEpochTests {
+
+    private static void comparar(String zona) {
+        TimeZone original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(zona));
+        try {
+            DataEpoch epoch = new DataEpoch(ZoneId.of(zona));
+            for (LocalDate d = LocalDate.of(1950, 1, 1); d.isBefore(LocalDate.of(2041, 1, 1)); d = d.plusDays(1)) {
+                assertEquals(Timestamp.valueOf(d.atStartOfDay()).getTime(), epoch.paraMillis(d), zona + " " + d);
+            }
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    void testSaoPaulo_HorarioDeVeraoAMeiaNoite() {
+        comparar("America/Sao_Paulo");
+    }
+
+    @Test
+    void testFusosComESemTransicao() {
+        comparar("UTC");
+        comparar("America/New_York");
+        comparar("Asia/Kolkata");
+    }
+}
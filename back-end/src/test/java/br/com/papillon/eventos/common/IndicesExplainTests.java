@@ -0,0 +1,88 @@
+package br.com.papillon.eventos.common;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// schema das migrações do Flyway num H2 em modo PostgreSQL: o EXPLAIN de cada predicado quente não pode varrer a
+// tabela. O H2 cria sozinho um índice para cada FK e pode escolhê-lo no lugar do da V2; o Postgres não cria, por isso
+// os índices das FKs também são conferidos pelo nome
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explain;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndicesExplainTests {
+
+    @Autowired
+    private EntityManager em;
+
+    private String explain(String sql) {
+        return ((String) em.createNativeQuery("explain " + sql).getSingleResult()).toLowerCase();
+    }
+
+    private void assertUsaIndice(String sql) {
+        assertThat(explain(sql)).doesNotContain("tablescan");
+    }
+
+    @Test
+    void evento_listagemPorPeriodo() {
+        assertThat(explain("""
+                select e.id from evento e
+                where e.data >= date '2025-01-01' and e.data <= date '2025-12-31'
+                order by e.data desc, e.id desc
+                """)).contains("idx_evento_data_id");
+    }
+
+    @Test
+    void evento_porCliente() {
+        assertUsaIndice("select e.id from evento e where e.cliente_id = 1");
+    }
+
+    @Test
+    void insumos_porEventos() {
+        assertUsaIndice("select i.id from insumos i where i.evento_id in (1, 2, 3)");
+    }
+
+    @Test
+    void orcamentos_expiracao() {
+        assertThat(explain("""
+                select o.id from orcamentos o
+                where o.status = 'PENDENTE' and o.data_limite < date '2025-01-01'
+                """)).contains("idx_orcamentos_status_data_limite");
+    }
+
+    @Test
+    void cardapiosEFuncionarios_porOrcamentoEPorEvento() {
+        assertUsaIndice("select c.id from cardapio c where c.orcamento_id = 1");
+        assertUsaIndice("select c.id from cardapio c where c.evento_id = 1");
+        assertUsaIndice("select f.id from funcionarios f where f.orcamento_id = 1");
+        assertUsaIndice("select f.id from funcionarios f where f.evento_id = 1");
+    }
+
+    @Test
+    void itens_porCardapio() {
+        assertUsaIndice("select i.id from item i where i.cardapio_id in (1, 2)");
+    }
+
+    @Test
+    void indicesDasFks_existem() {
+        List<String> indices = em.createNativeQuery("select index_name from information_schema.indexes", String.class)
+                .getResultList();
+
+        assertThat(indices).contains(
+                "idx_evento_cliente_id", "idx_insumos_evento_id",
+                "idx_cardapio_orcamento_id", "idx_cardapio_evento_id",
+                "idx_funcionarios_orcamento_id", "idx_funcionarios_evento_id",
+                "idx_item_cardapio_id");
+    }
+}
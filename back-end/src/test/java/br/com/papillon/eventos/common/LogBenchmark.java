@@ -0,0 +1,140 @@
+package br.com.papillon.eventos.common;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// mvn -Pbench test-compile exec:exec -Dbench=LogBenchmark
+// Um "pedido" são 5 statements com 4 parâmetros cada, logados como na configuração de desenvolvimento
+// (org.hibernate.SQL=DEBUG e os parâmetros em TRACE), mais uma linha INFO da aplicação.
+// desenvolvimento: tudo síncrono, em texto; prod: SQL desligado (só os lentos, que aqui não há) e a linha INFO em
+// JSON pelo AsyncAppender; semLog: nenhum logger habilitado. A saída é descartada: o custo medido é só o do
+// logging, sem o do terminal, que na prática pesa mais no modo síncrono.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LogBenchmark {
+
+    private static final String SQL = "select e1_0.id,e1_0.nome,e1_0.data from evento e1_0 where e1_0.cliente_id=? "
+            + "and e1_0.data between ? and ? order by e1_0.data desc fetch first ? rows only";
+
+    private LoggerContext desenvolvimento;
+    private LoggerContext prod;
+    private LoggerContext semLog;
+
+    private Logger devSql, devBind, devApp;
+    private Logger prodSql, prodBind, prodApp;
+    private Logger semSql, semBind, semApp;
+
+    @Setup
+    public void setUp() {
+        desenvolvimento = contexto();
+        PatternLayoutEncoder texto = new PatternLayoutEncoder();
+        texto.setContext(desenvolvimento);
+        texto.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%t] %-40.40logger{39} : %m%n");
+        texto.start();
+        raiz(desenvolvimento).addAppender(descartar(desenvolvimento, texto));
+        devSql = logger(desenvolvimento, "org.hibernate.SQL", Level.DEBUG);
+        devBind = logger(desenvolvimento, "org.hibernate.orm.jdbc.bind", Level.TRACE);
+        devApp = logger(desenvolvimento, "br.com.papillon.eventos", Level.INFO);
+
+        prod = contexto();
+        StructuredLogEncoder json = new StructuredLogEncoder();
+        json.setContext(prod);
+        json.setFormat("ecs");
+        json.start();
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(prod);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1638);
+        async.setNeverBlock(true);
+        async.addAppender(descartar(prod, json));
+        async.start();
+        raiz(prod).addAppender(async);
+        prodSql = logger(prod, "org.hibernate.SQL", Level.WARN);
+        prodBind = logger(prod, "org.hibernate.orm.jdbc.bind", Level.WARN);
+        prodApp = logger(prod, "br.com.papillon.eventos", Level.INFO);
+
+        semLog = contexto();
+        semSql = logger(semLog, "org.hibernate.SQL", Level.OFF);
+        semBind = logger(semLog, "org.hibernate.orm.jdbc.bind", Level.OFF);
+        semApp = logger(semLog, "br.com.papillon.eventos", Level.OFF);
+    }
+
+    @TearDown
+    public void tearDown() {
+        desenvolvimento.stop();
+        prod.stop();
+        semLog.stop();
+    }
+
+    private static LoggerContext contexto() {
+        LoggerContext ctx = new LoggerContext();
+        ctx.putObject(Environment.class.getName(), new StandardEnvironment());
+        ctx.start();
+        return ctx;
+    }
+
+    private static Logger raiz(LoggerContext ctx) {
+        Logger root = ctx.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        return root;
+    }
+
+    private static Logger logger(LoggerContext ctx, String nome, Level nivel) {
+        Logger l = ctx.getLogger(nome);
+        l.setLevel(nivel);
+        return l;
+    }
+
+    private static OutputStreamAppender<ILoggingEvent> descartar(LoggerContext ctx, Encoder<ILoggingEvent> encoder) {
+        OutputStreamAppender<ILoggingEvent> out = new OutputStreamAppender<>();
+        out.setContext(ctx);
+        out.setEncoder(encoder);
+        out.setOutputStream(OutputStream.nullOutputStream());
+        out.start();
+        return out;
+    }
+
+    private static void pedido(Logger sql, Logger bind, Logger app) {
+        for (int s = 0; s < 5; s++) {
+            sql.debug(SQL);
+            bind.trace("binding parameter (1:BIGINT) <- [{}]", 42L);
+            bind.trace("binding parameter (2:DATE) <- [{}]", "2025-01-01");
+            bind.trace("binding parameter (3:DATE) <- [{}]", "2025-12-31");
+            bind.trace("binding parameter (4:INTEGER) <- [{}]", 21);
+        }
+        app.info("Evento {} criado", 42L);
+    }
+
+    @Benchmark
+    public void desenvolvimento() {
+        pedido(devSql, devBind, devApp);
+    }
+
+    @Benchmark
+    public void prod() {
+        pedido(prodSql, prodBind, prodApp);
+    }
+
+    @Benchmark
+    public void semLog() {
+        pedido(semSql, semBind, semApp);
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.papillon.eventos.common;
+
+import br.com.papillon.eventos.cardapios.entities.Cardapio;
+import br.com.papillon.eventos.cardapios.entities.Item;
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.common.metricas.ContagemPorPedido;
+import br.com.papillon.eventos.common.metricas.MetricasPorPedidoFilter;
+import br.com.papillon.eventos.common.metricas.SqlPorEndpoint;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Contagem por pedido do EstatisticasPorPedido, TempoDeSqlListener e SqlPorPedidoInspector (configurados no
+ * application.properties): carregar um orçamento e percorrer os cardápios são 2 statements, 2 entidades
+ * (orçamento e cardápio) e 1 coleção. O SqlPorEndpoint dos testes tem limite de 2 statements por pedido.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class MetricasPorPedidoTests {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OrcamentoRepository orcamentoRepository;
+
+    private SimpleMeterRegistry registry;
+    private SqlPorEndpoint sqlPorEndpoint;
+    private MetricasPorPedidoFilter filter;
+    private Long orcamentoId;
+    private int clientes;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        sqlPorEndpoint = new SqlPorEndpoint(registry, 2, 10_000);
+        filter = new MetricasPorPedidoFilter(registry, sqlPorEndpoint);
+
+        orcamentoId = novoOrcamento();
+        em.flush();
+        em.clear();
+    }
+
+    private Long novoOrcamento() {
+        Cliente cliente = new Cliente(null, "Cliente", "c@email.com", "123" + clientes++, "8599999999");
+        em.persist(cliente);
+        Orcamento orcamento = Orcamento.builder()
+                .cliente(cliente)
+                .dataDoEvento(LocalDate.of(2025, 5, 1))
+                .quantidadePessoas(100)
+                .valorPorPessoa(new BigDecimal("30"))
+                .dataLimite(LocalDate.of(2025, 4, 1))
+                .status(OrcamentoStatus.PENDENTE)
+                .cardapios(new ArrayList<>(List.of(Cardapio.builder().nome("Jantar")
+                        .itens(new ArrayList<>(List.of(Item.builder().nome("Risoto").tipo("Prato").build())))
+                        .build())))
+                .funcionarios(new ArrayList<>())
+                .build();
+        em.persist(orcamento);
+        return orcamento.getId();
+    }
+
+    // cada pedido começa com o contexto de persistência vazio, como numa sessão nova
+    private void pedido(String metodo, String padrao, Runnable corpo) throws Exception {
+        em.clear();
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, padrao);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, padrao);
+            corpo.run();
+        });
+    }
+
+    private DistributionSummary resumo(String nome) {
+        return registry.get(nome).tag("method", "GET").tag("uri", "/api/orcamento/{id}").summary();
+    }
+
+    @Test
+    void testContaOQueOPedidoCarregou() throws Exception {
+        pedido("GET", "/api/orcamento/{id}",
+                () -> orcamentoRepository.findById(orcamentoId).orElseThrow().getCardapios().size());
+
+        assertThat(resumo("hibernate.pedido.statements").totalAmount()).isEqualTo(2);
+        assertThat(resumo("hibernate.pedido.entidades").totalAmount()).isEqualTo(2);
+        assertThat(resumo("hibernate.pedido.colecoes").totalAmount()).isEqualTo(1);
+        assertThat(registry.get("hibernate.pedido.sql").timer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(registry.find("hibernate.pedido.acima_do_limite").counter()).isNull();
+    }
+
+    @Test
+    void testRepeticaoApontaOSqlDoNMaisUm() {
+        List<Long> ids = List.of(orcamentoId, novoOrcamento(), novoOrcamento());
+        em.flush();
+        em.clear();
+
+        ContagemPorPedido contagem = ContagemPorPedido.iniciar();
+        try {
+            ids.forEach(id -> orcamentoRepository.findById(id).orElseThrow().getCardapios().size());
+        } finally {
+            ContagemPorPedido.encerrar();
+        }
+
+        assertThat(contagem.getStatements()).isEqualTo(6);
+        assertThat(contagem.getMaisRepetido().getValue()).isEqualTo(3);
+        assertThat(contagem.getMaisRepetido().getKey()).containsIgnoringCase("from orcamentos");
+    }
+
+    @Test
+    void testAcimaDoLimite_ContaEEntraNoRanking() throws Exception {
+        Long outroId = novoOrcamento();
+        em.flush();
+
+        pedido("GET", "/api/orcamento/{id}",
+                () -> orcamentoRepository.findById(orcamentoId).orElseThrow().getCardapios().size());
+        // um findById por orçamento: o padrão N+1 que o limite existe para pegar
+        pedido("GET", "/api/orcamento", () -> List.of(orcamentoId, outroId)
+                .forEach(id -> orcamentoRepository.findById(id).orElseThrow().getCardapios().size()));
+        pedido("GET", "/api/orcamento/{id}",
+                () -> orcamentoRepository.findById(outroId).orElseThrow().getCardapios().size());
+
+        assertThat(registry.get("hibernate.pedido.acima_do_limite").tag("uri", "/api/orcamento").counter().count())
+                .isEqualTo(1);
+
+        List<SqlPorEndpoint.Resumo> piores = sqlPorEndpoint.piores(10);
+        assertThat(piores).extracting(SqlPorEndpoint.Resumo::endpoint)
+                .containsExactlyInAnyOrder("GET /api/orcamento/{id}", "GET /api/orcamento");
+        assertThat(piores).isSortedAccordingTo((a, b) -> Long.compare(b.tempoTotalMs(), a.tempoTotalMs()));
+        SqlPorEndpoint.Resumo porId = piores.stream()
+                .filter(p -> p.endpoint().equals("GET /api/orcamento/{id}")).findFirst().orElseThrow();
+        assertThat(porId.pedidos()).isEqualTo(2);
+        assertThat(porId.statements()).isEqualTo(4);
+        assertThat(porId.acimaDoLimite()).isZero();
+
+        sqlPorEndpoint.limpar();
+        assertThat(sqlPorEndpoint.piores(10)).isEmpty();
+    }
+
+    @Test
+    void testForaDoPedidoNaoConta() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orcamento/" + orcamentoId);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orcamento/{id}"));
+
+        orcamentoRepository.findById(orcamentoId).orElseThrow().getCardapios().size();
+
+        assertThat(resumo("hibernate.pedido.statements").count()).isEqualTo(1);
+        assertThat(resumo("hibernate.pedido.statements").totalAmount()).isZero();
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.papillon.eventos.common;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+// logback-spring.xml com e sem o perfil prod. O Spring Boot só configura o logback uma vez por JVM (os contextos dos
+// outros testes reaproveitam), então aqui o LoggingSystem é reiniciado à mão e volta ao padrão no fim
+@ExtendWith(OutputCaptureExtension.class)
+class ProdLoggingTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ProdLoggingTests.class);
+
+    private final LoggingSystem sistema = LoggingSystem.get(getClass().getClassLoader());
+
+    private ch.qos.logback.classic.Logger iniciar(String... perfis) {
+        MockEnvironment ambiente = new MockEnvironment();
+        ambiente.setActiveProfiles(perfis);
+        sistema.cleanUp();
+        sistema.beforeInitialize();
+        sistema.initialize(new LoggingInitializationContext(ambiente), "classpath:logback-spring.xml", null);
+        return ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(Logger.ROOT_LOGGER_NAME);
+    }
+
+    @AfterEach
+    void restaurar() {
+        iniciar();
+    }
+
+    @Test
+    void prod_jsonAtrasDoAsyncAppender(CapturedOutput saida) {
+        ch.qos.logback.classic.Logger root = iniciar("prod");
+        assertThat(root.getAppender("ASYNC_JSON")).isInstanceOf(AsyncAppender.class);
+        assertThat(((AsyncAppender) root.getAppender("ASYNC_JSON")).isNeverBlock()).isTrue();
+        assertThat(root.getAppender("CONSOLE")).isNull();
+
+        log.info("Evento {} criado", 42);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(saida.getOut())
+                .contains("\"message\":\"Evento 42 criado\"")
+                .contains("\"log.level\":\"INFO\""));
+    }
+
+    @Test
+    void semPerfil_consolePadrao(CapturedOutput saida) {
+        ch.qos.logback.classic.Logger root = iniciar();
+        assertThat(root.getAppender("CONSOLE")).isNotNull();
+        assertThat(root.getAppender("ASYNC_JSON")).isNull();
+
+        log.info("Evento {} criado", 42);
+
+        assertThat(saida.getOut()).contains("Evento 42 criado").doesNotContain("\"message\"");
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.papillon.eventos.evento;
+
+import br.com.papillon.eventos.cardapios.entities.Cardapio;
+import br.com.papillon.eventos.cardapios.entities.Item;
+import br.com.papillon.eventos.cliente.dtos.ClienteDto;
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.evento.dtos.EventoRowDto;
+import br.com.papillon.eventos.evento.dtos.EventoShowDto;
+import br.com.papillon.eventos.evento.entities.Evento;
+import br.com.papillon.eventos.funcionario.entities.Funcionario;
+import br.com.papillon.eventos.insumos.dtos.InsumoDto;
+import br.com.papillon.eventos.insumos.entities.Insumo;
+import br.com.papillon.eventos.orcamento.dtos.OrcamentoShowDto;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// mvn -Pbench test-compile exec:exec -Dbench=DtoMapeamentoBenchmark
+// alocação por operação: java -cp <classpath de teste> org.openjdk.jmh.Main DtoMapeamentoBenchmark -prof gc
+// 1000 eventos com 20 insumos cada (listagem) e 1000 orçamentos com 3 cardápios de 10 itens e 5 funcionários;
+// "legado" é o mapeamento anterior (Timestamp.valueOf por data e groupingBy em stream), copiado como referência.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMapeamentoBenchmark {
+
+    private static final int EVENTOS = 1000;
+    private static final int INSUMOS_POR_EVENTO = 20;
+    private static final int ORCAMENTOS = 1000;
+
+    private ObjectMapper mapper;
+    private List<EventoRowDto> linhas;
+    private List<InsumoDto> insumos;
+    private List<Evento> eventos;
+    private List<Orcamento> orcamentos;
+    private List<EventoShowDto> eventosMapeados;
+
+    @Setup
+    public void setUp() {
+        // mesma configuração do ObjectMapper do Spring Boot (datas ISO, módulos do classpath)
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Cliente cliente = new Cliente(1L, "Maria da Silva", "maria@email.com", "12345678901", "85999990000");
+        LocalDate inicio = LocalDate.of(2025, 1, 1);
+
+        linhas = new ArrayList<>();
+        insumos = new ArrayList<>();
+        eventos = new ArrayList<>();
+        long insumoId = 1;
+        for (long e = 1; e <= EVENTOS; e++) {
+            LocalDate data = inicio.plusDays(e % 365);
+            linhas.add(new EventoRowDto(e, "Evento " + e, 1L, cliente.getNome(), cliente.getEmail(),
+                    cliente.getCpfCnpj(), cliente.getTelefone(), data, new BigDecimal("5000.00"),
+                    new BigDecimal("1200.00"), new BigDecimal("3800.00"), "CONFIRMADO", 120));
+
+            Evento evento = Evento.builder().id(e).nome("Evento " + e).cliente(cliente).data(data)
+                    .valor(new BigDecimal("5000.00")).gastos(new BigDecimal("1200.00"))
+                    .lucro(new BigDecimal("3800.00")).status("CONFIRMADO").qtdPessoas(120)
+                    .insumos(new ArrayList<>()).build();
+            for (int i = 0; i < INSUMOS_POR_EVENTO; i++, insumoId++) {
+                insumos.add(new InsumoDto(insumoId, "Insumo " + i, new BigDecimal("60.00"), "PIX", e));
+                evento.getInsumos().add(Insumo.builder().id(insumoId).nome("Insumo " + i)
+                        .valor(new BigDecimal("60.00")).metodoPagamento("PIX").evento(evento).build());
+            }
+            eventos.add(evento);
+        }
+
+        orcamentos = new ArrayList<>();
+        for (long o = 1; o <= ORCAMENTOS; o++) {
+            List<Cardapio> cardapios = new ArrayList<>();
+            for (int c = 0; c < 3; c++) {
+                List<Item> itens = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    itens.add(Item.builder().id(o * 100 + c * 10 + i).nome("Item " + i).tipo("Salgado").build());
+                }
+                cardapios.add(Cardapio.builder().id(o * 10 + c).nome("Cardápio " + c).itens(itens).build());
+            }
+            List<Funcionario> funcionarios = new ArrayList<>();
+            for (int f = 0; f < 5; f++) {
+                funcionarios.add(Funcionario.builder().id(o * 10 + f).nome("Funcionário " + f).funcao("Garçom")
+                        .valor(new BigDecimal("150.00")).build());
+            }
+            orcamentos.add(Orcamento.builder().id(o).cliente(cliente)
+                    .dataDoEvento(inicio.plusDays(o % 365)).dataGeracao(inicio).dataLimite(inicio.plusDays(30))
+                    .quantidadePessoas(120).valorPorPessoa(new BigDecimal("80.00"))
+                    .valorTotal(new BigDecimal("9600.00")).status(OrcamentoStatus.PENDENTE)
+                    .cardapios(cardapios).funcionarios(funcionarios).build());
+        }
+
+        eventosMapeados = EventoShowDto.comInsumos(linhas, insumos);
+    }
+
+    @Benchmark
+    public List<EventoShowDto> listagemEventos() {
+        return EventoShowDto.comInsumos(linhas, insumos);
+    }
+
+    @Benchmark
+    public List<EventoShowDto> listagemEventosLegado() {
+        Map<Long, List<InsumoDto>> insumosPorEvento = insumos.stream()
+                .collect(Collectors.groupingBy(InsumoDto::eventoId));
+        return linhas.stream()
+                .map(r -> new EventoShowDto(r.id(), r.nome(),
+                        new ClienteDto(r.clienteId(), r.clienteNome(), r.clienteEmail(),
+                                r.clienteCpfCnpj(), r.clienteTelefone()),
+                        Timestamp.valueOf(r.data().atStartOfDay()).getTime(),
+                        r.valor(), r.gastos(), r.lucro(),
+                        insumosPorEvento.getOrDefault(r.id(), List.of()), r.status(), r.qtdPessoas()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<EventoShowDto> detalheEventos() {
+        List<EventoShowDto> dtos = new ArrayList<>(eventos.size());
+        for (Evento e : eventos) dtos.add(new EventoShowDto(e));
+        return dtos;
+    }
+
+    @Benchmark
+    public List<OrcamentoShowDto> orcamentos() {
+        List<OrcamentoShowDto> dtos = new ArrayList<>(orcamentos.size());
+        for (Orcamento o : orcamentos) dtos.add(new OrcamentoShowDto(o));
+        return dtos;
+    }
+
+    @Benchmark
+    public void serializarEventos() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), eventosMapeados);
+    }
+
+    @Benchmark
+    public void listagemEventosJson() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), EventoShowDto.comInsumos(linhas, insumos));
+    }
+
+    @Benchmark
+    public void orcamentosJson() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), orcamentos());
+    }
+}
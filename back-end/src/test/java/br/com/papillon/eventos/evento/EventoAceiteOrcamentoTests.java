@@ -0,0 +1,192 @@
+package br.com.papillon.eventos.evento;
+
+import br.com.papillon.eventos.cardapios.entities.Cardapio;
+import br.com.papillon.eventos.cardapios.entities.Item;
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.cliente.services.ClienteService;
+import br.com.papillon.eventos.evento.dtos.EventoShowDto;
+import br.com.papillon.eventos.evento.entities.Evento;
+import br.com.papillon.eventos.evento.services.EventoService;
+import br.com.papillon.eventos.funcionario.dtos.FuncionarioDto;
+import br.com.papillon.eventos.funcionario.entities.Funcionario;
+import br.com.papillon.eventos.funcionario.services.FuncionarioService;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
+import br.com.papillon.eventos.orcamento.services.OrcamentoService;
+import br.com.papillon.eventos.orcamento.services.PdfCache;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({EventoService.class, OrcamentoService.class, ClienteService.class, FuncionarioService.class, PdfCache.class})
+class EventoAceiteOrcamentoTests {
+
+    private static final int CARDAPIOS = 3;
+    private static final int ITENS_POR_CARDAPIO = 10;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private OrcamentoService orcamentoService;
+
+    @Autowired
+    private OrcamentoRepository orcamentoRepository;
+
+    @Autowired
+    private FuncionarioService funcionarioService;
+
+    private Orcamento orcamento;
+
+    @BeforeEach
+    void setup() {
+        Cliente cliente = new Cliente(null, "Cliente", "c@email.com", "123", "8599999999");
+        em.persist(cliente);
+
+        List<Cardapio> cardapios = new ArrayList<>();
+        for (int c = 0; c < CARDAPIOS; c++) {
+            cardapios.add(Cardapio.builder()
+                    .nome("Cardápio " + c)
+                    .itens(new ArrayList<>(IntStream.range(0, ITENS_POR_CARDAPIO)
+                            .mapToObj(i -> Item.builder().nome("Item " + i).tipo("Salgado").build())
+                            .toList()))
+                    .build());
+        }
+        orcamento = Orcamento.builder()
+                .cliente(cliente)
+                .dataDoEvento(LocalDate.of(2025, 5, 1))
+                .quantidadePessoas(100)
+                .valorPorPessoa(new BigDecimal("30"))
+                .dataLimite(LocalDate.of(2025, 4, 1))
+                .status(OrcamentoStatus.PENDENTE)
+                .cardapios(cardapios)
+                .funcionarios(new ArrayList<>(List.of(
+                        Funcionario.builder().nome("Fulano").funcao("Garçom").valor(new BigDecimal("200")).build(),
+                        Funcionario.builder().nome("Ciclano").funcao("Cozinheiro").valor(new BigDecimal("300")).build())))
+                .build();
+        em.persist(orcamento);
+        em.flush();
+        em.clear();
+    }
+
+    private Statistics estatisticas() {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Long aceitar() {
+        Orcamento orc = orcamentoRepository.findDetailById(orcamento.getId()).orElseThrow();
+        estatisticas().clear();
+        EventoShowDto dto = eventoService.createFromOrcamento(orc);
+        em.flush();
+        em.clear();
+        return dto.id();
+    }
+
+    private long contar(String entidade) {
+        return em.createQuery("select count(x) from " + entidade + " x", Long.class).getSingleResult();
+    }
+
+    private List<Long> ids(List<?> linhas) {
+        return linhas.stream().map(l -> l instanceof Funcionario f ? f.getId() : ((Cardapio) l).getId()).toList();
+    }
+
+    @Test
+    void aceite_copiaLinhasDoOrcamento_umInsertPorTabela() {
+        Long eventoId = aceitar();
+        Statistics stats = estatisticas();
+
+        // antes: 1 evento + 2 funcionários + 3 cardápios + 30 itens inseridos pelas entidades, um a um
+        assertThat(stats.getEntityInsertCount()).isEqualTo(1);
+        // carga dos cardápios (só as linhas, sem itens), insert do evento e um INSERT ... SELECT por tabela
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+
+        Evento evento = em.find(Evento.class, eventoId);
+        Orcamento orc = em.find(Orcamento.class, orcamento.getId());
+        assertThat(evento.getFuncionarios()).extracting(Funcionario::getNome)
+                .containsExactlyInAnyOrder("Fulano", "Ciclano");
+        assertThat(ids(evento.getFuncionarios())).doesNotContainAnyElementsOf(ids(orc.getFuncionarios()));
+        assertThat(evento.getCardapios()).hasSize(CARDAPIOS)
+                .allSatisfy(c -> assertThat(c.getItens()).hasSize(ITENS_POR_CARDAPIO));
+        assertThat(ids(evento.getCardapios())).doesNotContainAnyElementsOf(ids(orc.getCardapios()));
+        assertThat(evento.getGastos()).isEqualByComparingTo("500");
+        assertThat(evento.getLucro()).isEqualByComparingTo("2500");
+        assertThat(contar("Item")).isEqualTo(2 * CARDAPIOS * ITENS_POR_CARDAPIO);
+        assertThat(contar("Funcionario")).isEqualTo(4);
+    }
+
+    @Test
+    void editarFuncionarioDoEvento_naoMudaOrcamentoAceito() {
+        Long eventoId = aceitar();
+        Funcionario doEvento = em.find(Evento.class, eventoId).getFuncionarios().stream()
+                .filter(f -> f.getNome().equals("Fulano")).findFirst().orElseThrow();
+        em.clear();
+
+        funcionarioService.updateFuncionarioById(doEvento.getId(),
+                new FuncionarioDto(null, "Beltrano", "Garçom", new BigDecimal("999")));
+        funcionarioService.deleteFuncionarioById(
+                em.find(Evento.class, eventoId).getFuncionarios().stream()
+                        .filter(f -> f.getNome().equals("Ciclano")).findFirst().orElseThrow().getId());
+        em.flush();
+        em.clear();
+
+        Orcamento orc = orcamentoRepository.findDetailById(orcamento.getId()).orElseThrow();
+        assertThat(orc.getFuncionarios()).extracting(Funcionario::getNome, Funcionario::getValor)
+                .containsExactlyInAnyOrder(tuple("Fulano", new BigDecimal("200.00")),
+                        tuple("Ciclano", new BigDecimal("300.00")));
+        // o que entra no hash do PDF da proposta: funcionários acima e cardápios com itens
+        assertThat(orc.getCardapios()).hasSize(CARDAPIOS)
+                .allSatisfy(c -> assertThat(c.getItens()).hasSize(ITENS_POR_CARDAPIO));
+    }
+
+    @Test
+    void excluirEvento_mantemCardapiosEFuncionariosDoOrcamento() {
+        Long eventoId = aceitar();
+
+        eventoService.deleteEvento(eventoId);
+        em.flush();
+        em.clear();
+
+        Orcamento orc = em.find(Orcamento.class, orcamento.getId());
+        assertThat(orc.getFuncionarios()).hasSize(2);
+        assertThat(orc.getCardapios()).hasSize(CARDAPIOS)
+                .allSatisfy(c -> assertThat(c.getItens()).hasSize(ITENS_POR_CARDAPIO));
+        assertThat(contar("Item")).isEqualTo(CARDAPIOS * ITENS_POR_CARDAPIO);
+    }
+
+    @Test
+    void excluirOrcamento_mantemCardapiosEFuncionariosDoEvento() {
+        Long eventoId = aceitar();
+
+        orcamentoService.delete(orcamento.getId());
+        em.flush();
+        em.clear();
+
+        Evento evento = em.find(Evento.class, eventoId);
+        assertThat(evento.getFuncionarios()).hasSize(2);
+        assertThat(evento.getCardapios()).hasSize(CARDAPIOS)
+                .allSatisfy(c -> assertThat(c.getItens()).hasSize(ITENS_POR_CARDAPIO));
+        assertThat(contar("Item")).isEqualTo(CARDAPIOS * ITENS_POR_CARDAPIO);
+    }
+}
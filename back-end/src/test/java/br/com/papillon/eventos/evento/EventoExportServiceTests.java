@@ -0,0 +1,70 @@
+package br.com.papillon.eventos.evento;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.common.export.ExportFormat;
+import br.com.papillon.eventos.common.export.ExportStreamer;
+import br.com.papillon.eventos.evento.entities.Evento;
+import br.com.papillon.eventos.evento.services.EventoExportService;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({EventoExportService.class, ExportStreamer.class, JacksonAutoConfiguration.class})
+class EventoExportServiceTests {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EventoExportService exportService;
+
+    @BeforeEach
+    void setup() {
+        Cliente cliente = new Cliente(null, "Silva, Ana", "ana@email.com", "123", "8599999999");
+        em.persist(cliente);
+        for (int n = 1; n <= 3; n++) {
+            em.persist(Evento.builder()
+                    .nome("Evento \"" + n + "\"").cliente(cliente).data(LocalDate.of(2025, 3, n))
+                    .valor(BigDecimal.TEN).gastos(BigDecimal.ONE).lucro(BigDecimal.valueOf(9))
+                    .status("PENDENTE").build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private String exportar(ExportFormat formato) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportar(out, formato);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportarCsv_umaLinhaPorEvento_comEscape() throws Exception {
+        String[] linhas = exportar(ExportFormat.CSV).split("\r\n");
+
+        assertThat(linhas).hasSize(4);
+        assertThat(linhas[0]).isEqualTo("id,nome,clienteId,clienteNome,data,valor,gastos,lucro,status,qtdPessoas");
+        assertThat(linhas[1]).contains("\"Evento \"\"1\"\"\"", "\"Silva, Ana\"", "2025-03-01");
+    }
+
+    @Test
+    void exportarNdjson_umObjetoPorLinha() throws Exception {
+        String[] linhas = exportar(ExportFormat.NDJSON).split("\n");
+
+        assertThat(linhas).hasSize(3);
+        assertThat(linhas[2]).startsWith("{\"id\":").contains("\"data\":\"2025-03-03\"", "\"clienteNome\":\"Silva, Ana\"");
+    }
+}
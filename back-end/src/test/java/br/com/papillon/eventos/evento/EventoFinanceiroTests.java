@@ -0,0 +1,162 @@
+package br.com.papillon.eventos.evento;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.evento.dtos.EventoCreateDto;
+import br.com.papillon.eventos.evento.dtos.EventoShowDto;
+import br.com.papillon.eventos.evento.entities.Evento;
+import br.com.papillon.eventos.evento.services.EventoService;
+import br.com.papillon.eventos.funcionario.dtos.FuncionarioDto;
+import br.com.papillon.eventos.funcionario.entities.Funcionario;
+import br.com.papillon.eventos.funcionario.services.FuncionarioService;
+import br.com.papillon.eventos.insumos.dtos.InsumoDto;
+import br.com.papillon.eventos.insumos.entities.Insumo;
+import br.com.papillon.eventos.insumos.services.InsumoService;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({EventoService.class, InsumoService.class, FuncionarioService.class})
+class EventoFinanceiroTests {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private InsumoService insumoService;
+
+    @Autowired
+    private FuncionarioService funcionarioService;
+
+    private Evento evento;
+    private Funcionario garcom;
+
+    @BeforeEach
+    void setup() {
+        Cliente cliente = new Cliente(null, "Cliente", "c@email.com", "123", "8599999999");
+        em.persist(cliente);
+
+        garcom = Funcionario.builder().nome("Fulano").funcao("Garçom").valor(new BigDecimal("200")).build();
+        evento = Evento.builder()
+                .nome("Casamento").cliente(cliente).data(LocalDate.of(2025, 5, 1))
+                .valor(new BigDecimal("1000")).gastos(new BigDecimal("200")).lucro(new BigDecimal("800"))
+                .status("PENDENTE").insumos(new ArrayList<>())
+                .funcionarios(new ArrayList<>(List.of(garcom)))
+                .build();
+        em.persist(evento);
+        em.flush();
+        em.clear();
+    }
+
+    private Evento recarregar() {
+        em.flush();
+        em.clear();
+        return em.find(Evento.class, evento.getId());
+    }
+
+    @Test
+    void insumo_criarAtualizarExcluir_aplicaDeltas() {
+        Insumo insumo = insumoService.createInsumo(
+                new InsumoDto(null, "Gelo", new BigDecimal("100"), "PIX", evento.getId()));
+        assertThat(recarregar().getGastos()).isEqualByComparingTo("300");
+
+        insumoService.updateInsumoById(insumo.getId(),
+                new InsumoDto(null, "Gelo", new BigDecimal("150"), "PIX", evento.getId()));
+        Evento atual = recarregar();
+        assertThat(atual.getGastos()).isEqualByComparingTo("350");
+        assertThat(atual.getLucro()).isEqualByComparingTo("650");
+
+        insumoService.deleteInsumoById(insumo.getId());
+        atual = recarregar();
+        assertThat(atual.getGastos()).isEqualByComparingTo("200");
+        assertThat(atual.getLucro()).isEqualByComparingTo("800");
+    }
+
+    @Test
+    void insumo_edicaoSobreValorJaTrocado_falhaSemAplicarDelta() {
+        Insumo insumo = insumoService.createInsumo(
+                new InsumoDto(null, "Gelo", new BigDecimal("100"), "PIX", evento.getId()));
+        recarregar();
+        em.find(Insumo.class, insumo.getId()); // leitura que vai ficar desatualizada
+
+        // outra edição commitada no meio: 100 -> 120
+        em.createNativeQuery("update insumos set valor = 120, versao = versao + 1 where id = ?1")
+                .setParameter(1, insumo.getId()).executeUpdate();
+        em.createNativeQuery("update evento set gastos = gastos + 20, lucro = lucro - 20 where id = ?1")
+                .setParameter(1, evento.getId()).executeUpdate();
+
+        assertThatThrownBy(() -> insumoService.updateInsumoById(insumo.getId(),
+                new InsumoDto(null, "Gelo", new BigDecimal("150"), "PIX", evento.getId())))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        em.clear();
+        assertThat(em.find(Evento.class, evento.getId()).getGastos()).isEqualByComparingTo("320");
+    }
+
+    @Test
+    void funcionario_edicaoSobreValorJaTrocado_falhaSemAplicarDelta() {
+        em.find(Funcionario.class, garcom.getId());
+
+        em.createNativeQuery("update funcionarios set valor = 220, versao = versao + 1 where id = ?1")
+                .setParameter(1, garcom.getId()).executeUpdate();
+        em.createNativeQuery("update evento set gastos = gastos + 20, lucro = lucro - 20 where id = ?1")
+                .setParameter(1, evento.getId()).executeUpdate();
+
+        assertThatThrownBy(() -> funcionarioService.updateFuncionarioById(garcom.getId(),
+                new FuncionarioDto(null, "Fulano", "Garçom", new BigDecimal("250"))))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        em.clear();
+        assertThat(em.find(Evento.class, evento.getId()).getGastos()).isEqualByComparingTo("220");
+    }
+
+    @Test
+    void funcionario_atualizarExcluir_aplicaDeltas() {
+        funcionarioService.updateFuncionarioById(garcom.getId(),
+                new FuncionarioDto(null, "Fulano", "Garçom", new BigDecimal("250")));
+        assertThat(recarregar().getGastos()).isEqualByComparingTo("250");
+
+        funcionarioService.deleteFuncionarioById(garcom.getId());
+        Evento atual = recarregar();
+        assertThat(atual.getGastos()).isEqualByComparingTo("0");
+        assertThat(atual.getLucro()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void reconciliar_recalculaAPartirDosFilhos() {
+        em.persist(Insumo.builder().nome("Flores").valor(new BigDecimal("75"))
+                .evento(em.find(Evento.class, evento.getId())).build());
+        em.createQuery("update Evento e set e.gastos = 0, e.lucro = 0").executeUpdate();
+
+        int total = eventoService.reconciliarFinanceiro(1);
+
+        assertThat(total).isEqualTo(1);
+        Evento atual = recarregar();
+        assertThat(atual.getGastos()).isEqualByComparingTo("275");
+        assertThat(atual.getLucro()).isEqualByComparingTo("725");
+    }
+
+    @Test
+    void atualizarEvento_recalculaLucroComGastosAtuais() {
+        EventoCreateDto dto = new EventoCreateDto(
+                "Casamento", recarregar().getCliente().getId(), evento.getData(), new BigDecimal("1500"), "PENDENTE");
+
+        EventoShowDto atualizado = eventoService.updateEvento(evento.getId(), dto);
+
+        assertThat(atualizado.gastos()).isEqualByComparingTo("200");
+        assertThat(atualizado.lucro()).isEqualByComparingTo("1300");
+    }
+}
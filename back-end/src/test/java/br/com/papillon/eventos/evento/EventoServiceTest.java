@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 
 import java.util.Collections;
@@ -24,11 +25,16 @@ import static org.mockito.Mockito.*;
 import br.com.papillon.eventos.cliente.entities.Cliente;
 import br.com.papillon.eventos.cliente.repositories.ClienteRepository;
 import br.com.papillon.eventos.evento.dtos.EventoCreateDto;
+import br.com.papillon.eventos.evento.dtos.EventoCursor;
+import br.com.papillon.eventos.evento.dtos.EventoPageDto;
+import br.com.papillon.eventos.evento.dtos.EventoRowDto;
 import br.com.papillon.eventos.evento.dtos.EventoShowDto;
 import br.com.papillon.eventos.evento.dtos.EventoSimpleDto;
 import br.com.papillon.eventos.evento.entities.Evento;
 import br.com.papillon.eventos.evento.exception.EventoNotFoundException;
+import br.com.papillon.eventos.evento.exception.InvalidPageTokenException;
 import br.com.papillon.eventos.evento.repositories.EventoRepository;
+import br.com.papillon.eventos.insumos.dtos.InsumoDto;
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
 
 @ExtendWith(MockitoExtension.class)
@@ -93,7 +99,7 @@ class EventoServiceTest {
 
     @Test
     void getEventoById_sucesso() {
-        when(eventoRepository.findById(eventoMock.getId()))
+        when(eventoRepository.findDetailById(eventoMock.getId()))
                 .thenReturn(Optional.of(eventoMock));
 
         EventoShowDto dto = service.getEventoById(eventoMock.getId());
@@ -104,21 +110,40 @@ class EventoServiceTest {
 
     @Test
     void getEventoById_naoExiste_lancaEventoNotFoundException() {
-        when(eventoRepository.findById(42L)).thenReturn(Optional.empty());
+        when(eventoRepository.findDetailById(42L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.getEventoById(42L))
                 .isInstanceOf(EventoNotFoundException.class)
                 .hasMessageContaining("42");
     }
 
+    private EventoRowDto row(Long id, LocalDate data) {
+        return new EventoRowDto(id, "Evento " + id, clienteMock.getId(), clienteMock.getNome(),
+                null, null, null, data, BigDecimal.valueOf(500), BigDecimal.ZERO, BigDecimal.ZERO,
+                "PENDENTE", 0);
+    }
+
     @Test
     void listAllEventos_retornaListaCorreta() {
-        when(eventoRepository.findAll()).thenReturn(List.of(eventoMock));
+        when(eventoRepository.findAllRowsOrderByDataDesc())
+                .thenReturn(List.of(row(eventoMock.getId(), eventoMock.getData())));
+        when(eventoRepository.findInsumosByEventoIds(List.of(eventoMock.getId())))
+                .thenReturn(List.of(new InsumoDto(1L, "Gelo", BigDecimal.TEN, "PIX", eventoMock.getId())));
 
         List<EventoShowDto> lista = service.listAllEventos();
 
         assertThat(lista).hasSize(1);
         assertThat(lista.get(0).id()).isEqualTo(eventoMock.getId());
+        assertThat(lista.get(0).cliente().id()).isEqualTo(clienteMock.getId());
+        assertThat(lista.get(0).insumos()).extracting(InsumoDto::nome).containsExactly("Gelo");
+    }
+
+    @Test
+    void getEventosSimplesByClienteId_usaProjecao() {
+        EventoSimpleDto simples = new EventoSimpleDto(10L, "Evento", eventoMock.getData(), "PENDENTE");
+        when(eventoRepository.findSimplesByClienteId(1L)).thenReturn(List.of(simples));
+
+        assertThat(service.getEventosSimplesByClienteId(1L)).containsExactly(simples);
     }
 
     @Test
@@ -126,7 +151,7 @@ class EventoServiceTest {
         EventoCreateDto dto = new EventoCreateDto(
                 "Novo Nome", clienteMock.getId(), eventoMock.getData(), BigDecimal.valueOf(1000), "Atualizado"
         );
-        when(eventoRepository.findById(eventoMock.getId()))
+        when(eventoRepository.findDetailById(eventoMock.getId()))
                 .thenReturn(Optional.of(eventoMock));
         when(clienteRepository.findById(clienteMock.getId()))
                 .thenReturn(Optional.of(clienteMock));
@@ -176,11 +201,12 @@ class EventoServiceTest {
 
     @Test
     void listAllEventos_vazio_retornaListaVazia() {
-        when(eventoRepository.findAll()).thenReturn(Collections.emptyList());
+        when(eventoRepository.findAllRowsOrderByDataDesc()).thenReturn(Collections.emptyList());
 
         List<EventoShowDto> lista = service.listAllEventos();
 
         assertThat(lista).isEmpty();
+        verify(eventoRepository, never()).findInsumosByEventoIds(any());
     }
 
     @Test
@@ -188,7 +214,7 @@ class EventoServiceTest {
         EventoCreateDto dto = new EventoCreateDto(
                 "Qualquer", clienteMock.getId(), eventoMock.getData(), eventoMock.getValor(), "X"
         );
-        when(eventoRepository.findById(123L)).thenReturn(Optional.empty());
+        when(eventoRepository.findDetailById(123L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.updateEvento(123L, dto))
                 .isInstanceOf(EventoNotFoundException.class)
@@ -197,7 +223,7 @@ class EventoServiceTest {
 
     @Test
     void updateEvento_clienteNaoEncontrado_lancaRuntimeException() {
-        when(eventoRepository.findById(eventoMock.getId()))
+        when(eventoRepository.findDetailById(eventoMock.getId()))
                 .thenReturn(Optional.of(eventoMock));
         when(clienteRepository.findById(999L)).thenReturn(Optional.empty());
 
@@ -219,4 +245,35 @@ class EventoServiceTest {
                 .isInstanceOf(NullPointerException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void listEventosPage_comMaisLinhas_retornaTokenDoUltimoDaPagina() {
+        when(eventoRepository.findPage(null, null, null, null, null, null, Limit.of(2)))
+                .thenReturn(List.of(row(10L, LocalDate.of(2025, 7, 20)), row(9L, LocalDate.of(2025, 7, 19))));
+        when(eventoRepository.findInsumosByEventoIds(List.of(10L))).thenReturn(List.of());
+
+        EventoPageDto pagina = service.listEventosPage(1, null, null, null, null, null);
+
+        assertThat(pagina.eventos()).hasSize(1);
+        assertThat(EventoCursor.decode(pagina.nextPageToken()))
+                .isEqualTo(new EventoCursor(eventoMock.getData(), eventoMock.getId()));
+    }
+
+    @Test
+    void listEventosPage_comToken_continuaDoCursor() {
+        String token = new EventoCursor(LocalDate.of(2025, 7, 20), 10L).encode();
+        when(eventoRepository.findPage("PENDENTE", 1L, null, null, LocalDate.of(2025, 7, 20), 10L, Limit.of(21)))
+                .thenReturn(List.of());
+
+        EventoPageDto pagina = service.listEventosPage(null, token, "PENDENTE", 1L, null, null);
+
+        assertThat(pagina.eventos()).isEmpty();
+        assertThat(pagina.nextPageToken()).isNull();
+    }
+
+    @Test
+    void listEventosPage_tokenInvalido_lancaInvalidPageTokenException() {
+        assertThatThrownBy(() -> service.listEventosPage(10, "nao-e-um-token", null, null, null, null))
+                .isInstanceOf(InvalidPageTokenException.class);
+    }
+
+}
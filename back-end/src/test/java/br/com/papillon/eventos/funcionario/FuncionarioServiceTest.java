@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import br.com.papillon.eventos.evento.repositories.EventoRepository;
 import br.com.papillon.eventos.funcionario.dtos.FuncionarioDto;
 import br.com.papillon.eventos.funcionario.entities.Funcionario;
 import br.com.papillon.eventos.funcionario.exception.FuncionarioNotFoundException;
@@ -26,6 +27,9 @@ class FuncionarioServiceTest {
     @Mock
     private FuncionarioRepository repo;
 
+    @Mock
+    private EventoRepository eventoRepository;
+
     @InjectMocks
     private FuncionarioService service;
 
@@ -117,6 +121,7 @@ class FuncionarioServiceTest {
         assertThat(result.nome()).isEqualTo("Maria Souza");
         assertThat(result.funcao()).isEqualTo("Garçon");
         assertThat(result.valor()).isEqualByComparingTo(BigDecimal.valueOf(200));
+        verify(eventoRepository).aplicarDeltaGastosPorFuncionario(1L, BigDecimal.valueOf(50));
     }
 
     @Test
@@ -141,6 +146,7 @@ class FuncionarioServiceTest {
 
         service.deleteFuncionarioById(1L);
 
+        verify(eventoRepository).descontarFuncionario(1L);
         verify(repo).deleteById(1L);
     }
 
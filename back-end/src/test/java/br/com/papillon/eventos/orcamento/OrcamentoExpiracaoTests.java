@@ -0,0 +1,116 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
+import br.com.papillon.eventos.orcamento.services.OrcamentoExpiracaoJob;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class OrcamentoExpiracaoTests {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 6, 10);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OrcamentoRepository repo;
+
+    private SimpleMeterRegistry registry;
+    private OrcamentoExpiracaoJob job;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        // lote de 2 para forçar mais de um UPDATE
+        job = new OrcamentoExpiracaoJob(repo, registry, "America/Sao_Paulo", 2);
+
+        cliente = new Cliente(null, "Cliente", "c@email.com", "123", "8599999999");
+        em.persist(cliente);
+    }
+
+    private Long orcamento(OrcamentoStatus status, LocalDate dataLimite) {
+        Orcamento o = Orcamento.builder()
+                .cliente(cliente).dataDoEvento(HOJE.plusMonths(1))
+                .quantidadePessoas(10).valorPorPessoa(BigDecimal.TEN)
+                .dataLimite(dataLimite).status(status)
+                .cardapios(List.of()).funcionarios(List.of())
+                .build();
+        em.persist(o);
+        return o.getId();
+    }
+
+    private OrcamentoStatus status(Long id) {
+        return em.find(Orcamento.class, id).getStatus();
+    }
+
+    @Test
+    void expirarVencidos_soPendentesComDataLimitePassada() {
+        Long vencido1 = orcamento(OrcamentoStatus.PENDENTE, HOJE.minusDays(1));
+        Long vencido2 = orcamento(OrcamentoStatus.PENDENTE, HOJE.minusDays(10));
+        Long vencido3 = orcamento(OrcamentoStatus.PENDENTE, HOJE.minusMonths(2));
+        Long venceHoje = orcamento(OrcamentoStatus.PENDENTE, HOJE);
+        Long aceito = orcamento(OrcamentoStatus.ACEITO, HOJE.minusDays(5));
+        em.flush();
+        em.clear();
+
+        int expirados = job.expirarVencidos(HOJE);
+
+        assertThat(expirados).isEqualTo(3);
+        em.clear();
+        assertThat(List.of(status(vencido1), status(vencido2), status(vencido3)))
+                .containsOnly(OrcamentoStatus.EXPIRADO);
+        assertThat(status(venceHoje)).isEqualTo(OrcamentoStatus.PENDENTE);
+        assertThat(status(aceito)).isEqualTo(OrcamentoStatus.ACEITO);
+
+        DistributionSummary linhas = registry.get("orcamentos.expiracao.linhas").summary();
+        assertThat(linhas.count()).isEqualTo(1);
+        assertThat(linhas.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void expirarVencidos_segundaExecucaoNaoAlteraNada() {
+        orcamento(OrcamentoStatus.PENDENTE, HOJE.minusDays(1));
+        em.flush();
+
+        job.expirarVencidos(HOJE);
+
+        assertThat(job.expirarVencidos(HOJE)).isZero();
+        assertThat(registry.get("orcamentos.expiracao.linhas").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    void loteSemLinhas_recusadoNaConstrucao() {
+        assertThatThrownBy(() -> new OrcamentoExpiracaoJob(repo, registry, "America/Sao_Paulo", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void indiceStatusDataLimite() {
+        @SuppressWarnings("unchecked")
+        List<String> colunas = em.createNativeQuery("""
+                        select c.column_name from information_schema.index_columns c
+                        where lower(c.index_name) = 'idx_orcamentos_status_data_limite'
+                        order by c.ordinal_position
+                        """)
+                .getResultList();
+
+        assertThat(colunas).extracting(String::toLowerCase).containsExactly("status", "data_limite");
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.common.export.ExportFormat;
+import br.com.papillon.eventos.common.export.ExportStreamer;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.services.OrcamentoExportService;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({OrcamentoExportService.class, ExportStreamer.class, JacksonAutoConfiguration.class})
+class OrcamentoExportServiceTests {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OrcamentoExportService exportService;
+
+    private Long semStatus;
+
+    @BeforeEach
+    void setup() {
+        Cliente cliente = new Cliente(null, "Cliente", "c@email.com", "123", "8599999999");
+        em.persist(cliente);
+        for (int n = 1; n <= 2; n++) {
+            Orcamento o = Orcamento.builder()
+                    .cliente(cliente).dataDoEvento(LocalDate.of(2025, 4, n))
+                    .quantidadePessoas(10).valorPorPessoa(BigDecimal.TEN)
+                    .dataLimite(LocalDate.of(2025, 3, n))
+                    .cardapios(List.of()).funcionarios(List.of())
+                    .build();
+            em.persist(o);
+            semStatus = o.getId();
+        }
+        em.flush();
+        // linha antiga, de antes de o status ser sempre preenchido
+        em.createNativeQuery("update orcamentos set status = null where id = ?1")
+                .setParameter(1, semStatus).executeUpdate();
+        em.clear();
+    }
+
+    private String exportar(ExportFormat formato) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportar(out, formato);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportarCsv_statusNuloSaiVazio() throws Exception {
+        String[] linhas = exportar(ExportFormat.CSV).split("\r\n");
+
+        assertThat(linhas).hasSize(3);
+        assertThat(linhas[1]).contains(",PENDENTE,");
+        assertThat(linhas[2]).startsWith(semStatus + ",").contains(",100.00,,");
+    }
+
+    @Test
+    void exportarNdjson_statusNuloSaiNull() throws Exception {
+        String[] linhas = exportar(ExportFormat.NDJSON).split("\n");
+
+        assertThat(linhas).hasSize(2);
+        assertThat(linhas[1]).contains("\"status\":null", "\"dataDoEvento\":\"2025-04-02\"");
+    }
+}
@@ -9,8 +9,10 @@ import br.com.papillon.eventos.orcamento.dtos.OrcamentoCreateDto;
 import br.com.papillon.eventos.orcamento.entities.Orcamento;
 import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
 import br.com.papillon.eventos.orcamento.exception.OrcamentoNotFoundException;
+import br.com.papillon.eventos.orcamento.exception.TransicaoStatusInvalidaException;
 import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
 import br.com.papillon.eventos.orcamento.services.OrcamentoService;
+import br.com.papillon.eventos.orcamento.services.PdfCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,7 @@ public class OrcamentoServiceTests {
     private ClienteService clienteService;
     private EventoService eventoService;
     private ClienteRepository clienteRepository;
+    private PdfCache pdfCache;
 
     private OrcamentoService orcamentoService;
 
@@ -38,7 +41,8 @@ public class OrcamentoServiceTests {
         clienteService = mock(ClienteService.class);
         eventoService = mock(EventoService.class);
         clienteRepository = mock(ClienteRepository.class);
-        orcamentoService = new OrcamentoService(orcamentoRepository, clienteService, eventoService, clienteRepository);
+        pdfCache = mock(PdfCache.class);
+        orcamentoService = new OrcamentoService(orcamentoRepository, clienteService, eventoService, clienteRepository, pdfCache);
     }
 
     private Cliente mockCliente() {
@@ -108,7 +112,7 @@ public class OrcamentoServiceTests {
         o.setCliente(mockCliente());
         o.setStatus(OrcamentoStatus.PENDENTE);
 
-        when(orcamentoRepository.findById(10L)).thenReturn(Optional.of(o));
+        when(orcamentoRepository.findDetailById(10L)).thenReturn(Optional.of(o));
 
         var result = orcamentoService.getById(10L);
 
@@ -117,26 +121,35 @@ public class OrcamentoServiceTests {
 
     @Test
     void testGetById_NotFound() {
-        when(orcamentoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orcamentoRepository.findDetailById(1L)).thenReturn(Optional.empty());
 
         assertThrows(OrcamentoNotFoundException.class, () -> {
             orcamentoService.getById(1L);
         });
     }
 
-    @Test
-    void testChangeStatus() {
+    private Orcamento orcamentoCompleto(OrcamentoStatus status) {
         Orcamento o = new Orcamento();
         o.setId(1L);
         o.setCliente(mockCliente());
-        o.setStatus(OrcamentoStatus.PENDENTE);
+        o.setStatus(status);
+        o.setDataDoEvento(LocalDate.now().plusDays(10));
+        o.setDataGeracao(LocalDate.now());
+        o.setDataLimite(LocalDate.now().plusDays(5));
+        o.setQuantidadePessoas(10);
+        o.setValorPorPessoa(BigDecimal.TEN);
+        o.setValorTotal(new BigDecimal("100"));
+        o.setCardapios(List.of());
+        o.setFuncionarios(List.of());
+        return o;
+    }
 
-        when(orcamentoRepository.findById(1L)).thenReturn(Optional.of(o));
-        when(orcamentoRepository.save(any())).thenAnswer(invocation -> {
-            Orcamento saved = invocation.getArgument(0);
-            saved.setStatus(OrcamentoStatus.ACEITO);
-            return saved;
-        });
+    @Test
+    void testChangeStatus() {
+        when(orcamentoRepository.findStatusById(1L)).thenReturn(Optional.of(OrcamentoStatus.PENDENTE));
+        when(orcamentoRepository.compareAndSetStatus(1L, OrcamentoStatus.PENDENTE, OrcamentoStatus.ACEITO))
+                .thenReturn(1);
+        when(orcamentoRepository.findDetailById(1L)).thenReturn(Optional.of(orcamentoCompleto(OrcamentoStatus.ACEITO)));
 
         var result = orcamentoService.changeStatus(1L, OrcamentoStatus.ACEITO);
 
@@ -144,6 +157,50 @@ public class OrcamentoServiceTests {
         verify(eventoService).createFromOrcamento(any());
     }
 
+    @Test
+    void testChangeStatus_PerdeuCorridaParaMesmoStatus_NaoCriaEvento() {
+        // leu PENDENTE, mas outro pedido aceitou antes do UPDATE
+        when(orcamentoRepository.findStatusById(1L))
+                .thenReturn(Optional.of(OrcamentoStatus.PENDENTE), Optional.of(OrcamentoStatus.ACEITO));
+        when(orcamentoRepository.compareAndSetStatus(1L, OrcamentoStatus.PENDENTE, OrcamentoStatus.ACEITO))
+                .thenReturn(0);
+        when(orcamentoRepository.findDetailById(1L)).thenReturn(Optional.of(orcamentoCompleto(OrcamentoStatus.ACEITO)));
+
+        var result = orcamentoService.changeStatus(1L, OrcamentoStatus.ACEITO);
+
+        assertEquals("ACEITO", result.status());
+        verify(eventoService, never()).createFromOrcamento(any());
+    }
+
+    @Test
+    void testChangeStatus_PerdeuCorridaParaOutroStatus_Conflito() {
+        when(orcamentoRepository.findStatusById(1L))
+                .thenReturn(Optional.of(OrcamentoStatus.PENDENTE), Optional.of(OrcamentoStatus.RECUSADO));
+        when(orcamentoRepository.compareAndSetStatus(1L, OrcamentoStatus.PENDENTE, OrcamentoStatus.ACEITO))
+                .thenReturn(0);
+
+        assertThrows(TransicaoStatusInvalidaException.class,
+                () -> orcamentoService.changeStatus(1L, OrcamentoStatus.ACEITO));
+        verify(eventoService, never()).createFromOrcamento(any());
+    }
+
+    @Test
+    void testChangeStatus_TransicaoNaoPermitida() {
+        when(orcamentoRepository.findStatusById(1L)).thenReturn(Optional.of(OrcamentoStatus.ACEITO));
+
+        assertThrows(TransicaoStatusInvalidaException.class,
+                () -> orcamentoService.changeStatus(1L, OrcamentoStatus.PENDENTE));
+        verify(orcamentoRepository, never()).compareAndSetStatus(any(), any(), any());
+    }
+
+    @Test
+    void testChangeStatus_NotFound() {
+        when(orcamentoRepository.findStatusById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(OrcamentoNotFoundException.class,
+                () -> orcamentoService.changeStatus(99L, OrcamentoStatus.ACEITO));
+    }
+
     @Test
     void testDelete_Success() {
         when(orcamentoRepository.existsById(5L)).thenReturn(true);
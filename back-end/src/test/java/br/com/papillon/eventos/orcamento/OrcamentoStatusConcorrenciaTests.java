@@ -0,0 +1,237 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.cliente.repositories.ClienteRepository;
+import br.com.papillon.eventos.cliente.services.ClienteService;
+import br.com.papillon.eventos.evento.repositories.EventoRepository;
+import br.com.papillon.eventos.evento.services.EventoService;
+import br.com.papillon.eventos.funcionario.entities.Funcionario;
+import br.com.papillon.eventos.orcamento.controllers.OrcamentoController;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+import br.com.papillon.eventos.orcamento.repositories.OrcamentoRepository;
+import br.com.papillon.eventos.orcamento.services.OrcamentoService;
+import br.com.papillon.eventos.orcamento.services.PdfCache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+// sem a transação do teste: cada PATCH precisa commitar de verdade para disputar a mesma linha.
+// No Postgres o UPDATE que perde a corrida espera o commit do vencedor, então a releitura já vê o status novo;
+// no H2 ele pode voltar com 0 linhas antes desse commit. O repositório embrulhado em EsperaCommitDoVencedor faz quem perdeu esperar o
+// commit do vencedor (lido numa conexão à parte) antes de reler, como no Postgres.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrcamentoService.class, EventoService.class, ClienteService.class, PdfCache.class,
+        OrcamentoStatusConcorrenciaTests.EsperaCommitDoVencedor.class})
+class OrcamentoStatusConcorrenciaTests {
+
+    private static final int THREADS = 12;
+    private static final int RODADAS = 15;
+
+    @Autowired
+    private OrcamentoService orcamentoService;
+
+    @Autowired
+    private OrcamentoRepository orcamentoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private MockMvc mvc;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setup() {
+        OrcamentoController controller = new OrcamentoController(orcamentoService);
+        ReflectionTestUtils.setField(controller, "orcamentoService", orcamentoService);
+        // open-in-view como na aplicação (spring.jpa.open-in-view é true por padrão): a resposta serializa os cardápios
+        OpenEntityManagerInViewInterceptor osiv = new OpenEntityManagerInViewInterceptor();
+        osiv.setEntityManagerFactory(emf);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new WebRequestHandlerInterceptorAdapter(osiv))
+                .build();
+
+        cliente = clienteRepository.save(
+                new Cliente(null, "Cliente", "c" + System.nanoTime() + "@email.com", String.valueOf(System.nanoTime()),
+                        "8599999999"));
+    }
+
+    @TestConfiguration
+    static class EsperaCommitDoVencedor {
+
+        @Bean
+        static BeanPostProcessor esperaCommitDoVencedor(ObjectProvider<DataSource> dataSource) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String nome) {
+                    if (!(bean instanceof OrcamentoRepository repo)) return bean;
+                    return Proxy.newProxyInstance(OrcamentoRepository.class.getClassLoader(),
+                            new Class<?>[]{OrcamentoRepository.class}, (proxy, metodo, args) -> {
+                                Object resultado;
+                                try {
+                                    resultado = metodo.invoke(repo, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                                if (metodo.getName().equals("compareAndSetStatus") && (int) resultado == 0) {
+                                    aguardarCommitDoVencedor(dataSource.getObject(), (Long) args[0],
+                                            (OrcamentoStatus) args[1]);
+                                }
+                                return resultado;
+                            });
+                }
+            };
+        }
+    }
+
+    // conexão nova, fora da transação do pedido (o DataSource embutido do teste não tem pool): só enxerga o que já
+    // foi commitado
+    private static void aguardarCommitDoVencedor(DataSource dataSource, Long id, OrcamentoStatus lido)
+            throws Exception {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement("select status from orcamentos where id = ?")) {
+            ps.setLong(1, id);
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (System.nanoTime() < limite) {
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next() && !lido.name().equals(rs.getString(1))) return;
+                }
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private Long novoOrcamento() {
+        List<Funcionario> funcionarios = new ArrayList<>(List.of(
+                Funcionario.builder().nome("Fulano").funcao("Garçom").valor(new BigDecimal("100")).build()));
+        return orcamentoRepository.save(Orcamento.builder()
+                .cliente(cliente).dataDoEvento(LocalDate.now().plusMonths(1))
+                .quantidadePessoas(10).valorPorPessoa(BigDecimal.TEN)
+                .dataLimite(LocalDate.now().plusDays(5))
+                .cardapios(new ArrayList<>()).funcionarios(funcionarios)
+                .build()).getId();
+    }
+
+    // dispara todos os PATCH ao mesmo tempo e devolve os status HTTP
+    private List<Integer> disparar(Long id, List<OrcamentoStatus> destinos) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(destinos.size());
+        try {
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Future<Integer>> respostas = new ArrayList<>();
+            for (OrcamentoStatus destino : destinos) {
+                respostas.add(pool.submit(() -> {
+                    largada.await();
+                    return mvc.perform(patch("/api/orcamento/{id}/status/{status}", id, destino))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            largada.countDown();
+            List<Integer> status = new ArrayList<>();
+            for (Future<Integer> r : respostas) {
+                status.add(r.get());
+            }
+            return status;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void aceitesConcorrentes_criamUmEventoSo() throws Exception {
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            Long id = novoOrcamento();
+            long eventosAntes = eventoRepository.count();
+
+            List<Integer> status = disparar(id, Collections.nCopies(THREADS, OrcamentoStatus.ACEITO));
+
+            // repetir o aceite é idempotente: todos recebem 200, mas só o vencedor cria o evento
+            assertThat(status).containsOnly(200);
+            assertThat(eventoRepository.count() - eventosAntes).isEqualTo(1);
+            assertThat(orcamentoRepository.findStatusById(id)).contains(OrcamentoStatus.ACEITO);
+        }
+    }
+
+    @Test
+    void aceiteERecusaConcorrentes_umVencedor() throws Exception {
+        List<OrcamentoStatus> destinos = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            destinos.add(i % 2 == 0 ? OrcamentoStatus.ACEITO : OrcamentoStatus.RECUSADO);
+        }
+
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            Long id = novoOrcamento();
+            long eventosAntes = eventoRepository.count();
+
+            List<Integer> status = disparar(id, destinos);
+
+            OrcamentoStatus fim = orcamentoRepository.findStatusById(id).orElseThrow();
+            assertThat(fim).isIn(OrcamentoStatus.ACEITO, OrcamentoStatus.RECUSADO);
+            assertThat(status).containsOnly(200, 409);
+            // só os pedidos do status vencedor recebem 200; os do outro perderam a corrida
+            assertThat(status.stream().filter(s -> s == 200).count()).isEqualTo(THREADS / 2);
+            assertThat(eventoRepository.count() - eventosAntes).isEqualTo(fim == OrcamentoStatus.ACEITO ? 1 : 0);
+        }
+    }
+
+    @Test
+    void statusNulo_valeComoPendente() throws Exception {
+        Long id = novoOrcamento();
+        // linha antiga, de antes de o status ser sempre preenchido
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement("update orcamentos set status = null where id = ?")) {
+            ps.setLong(1, id);
+            ps.executeUpdate();
+        }
+        long eventosAntes = eventoRepository.count();
+
+        assertThat(orcamentoRepository.findStatusById(id)).contains(OrcamentoStatus.PENDENTE);
+        assertThat(disparar(id, List.of(OrcamentoStatus.ACEITO))).containsExactly(200);
+        assertThat(orcamentoRepository.findStatusById(id)).contains(OrcamentoStatus.ACEITO);
+        assertThat(eventoRepository.count() - eventosAntes).isEqualTo(1);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.orcamento.services.PdfCache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfCacheTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testGet_HashDiferente_Miss() {
+        PdfCache cache = new PdfCache(100, "", 0);
+        cache.put(1L, "a", new byte[10]);
+
+        assertNotNull(cache.get(1L, "a"));
+        assertNull(cache.get(1L, "b"));
+    }
+
+    @Test
+    void testPut_PassaDoLimite_DespejaMenosRecente() {
+        PdfCache cache = new PdfCache(25, "", 0);
+        cache.put(1L, "a", new byte[10]);
+        cache.put(2L, "a", new byte[10]);
+        cache.get(1L, "a");
+        cache.put(3L, "a", new byte[10]);
+
+        assertNotNull(cache.get(1L, "a"));
+        assertNull(cache.get(2L, "a"));
+        assertNotNull(cache.get(3L, "a"));
+    }
+
+    @Test
+    void testPut_MaiorQueOLimite_NaoGuarda() {
+        PdfCache cache = new PdfCache(5, "", 0);
+        cache.put(1L, "a", new byte[10]);
+
+        assertNull(cache.get(1L, "a"));
+    }
+
+    @Test
+    void testInvalidate() {
+        PdfCache cache = new PdfCache(100, dir.toString(), 1000);
+        cache.put(1L, "a", new byte[10]);
+
+        cache.invalidate(1L);
+
+        assertNull(cache.get(1L, "a"));
+    }
+
+    @Test
+    void testDespejo_TransbordaParaDisco_ELeDeVolta() throws Exception {
+        PdfCache cache = new PdfCache(15, dir.toString(), 1000);
+        cache.put(1L, "a", new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        cache.put(2L, "a", new byte[10]);
+
+        assertTrue(Files.exists(dir.resolve("1-a.pdf")));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, cache.get(1L, "a"));
+
+        cache.invalidate(2L);
+        assertNull(cache.get(2L, "a"));
+        try (var arquivos = Files.list(dir)) {
+            assertTrue(arquivos.noneMatch(p -> p.getFileName().toString().startsWith("2-")));
+        }
+    }
+
+    @Test
+    void testDisco_PassaDoLimite_ApagaOMaisAntigo() throws Exception {
+        PdfCache cache = new PdfCache(10, dir.toString(), 20);
+        for (long id = 1; id <= 4; id++) {
+            cache.put(id, "a", new byte[10]); // cada put despeja o anterior para o disco
+        }
+
+        assertFalse(Files.exists(dir.resolve("1-a.pdf")));
+        assertTrue(Files.exists(dir.resolve("2-a.pdf")));
+        assertTrue(Files.exists(dir.resolve("3-a.pdf")));
+        assertNull(cache.get(1L, "a"));
+        try (var arquivos = Files.list(dir)) {
+            assertEquals(2, arquivos.count()); // nenhum .tmp sobrando
+        }
+    }
+
+    @Test
+    void testSubida_EsvaziaODiretorio() throws Exception {
+        Files.write(dir.resolve("9-a.pdf"), new byte[10]);
+        Files.write(dir.resolve("9-123.tmp"), new byte[3]);
+
+        PdfCache cache = new PdfCache(100, dir.toString(), 1000);
+
+        try (var arquivos = Files.list(dir)) {
+            assertEquals(0, arquivos.count());
+        }
+        assertNull(cache.get(9L, "a"));
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.orcamento.config.PdfExecutorConfig;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PdfExecutorConfigTests {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(PdfExecutorConfig.class)
+            .withPropertyValues("app.pdf.lote.threads=3");
+
+    @Test
+    void testPadrao_PoolDeThreadsComuns() {
+        runner.run(ctx -> {
+            assertThat(ctx.getBean("pdfExecutor", Executor.class)).isInstanceOf(ThreadPoolExecutor.class);
+            assertThat(((ThreadPoolExecutor) ctx.getBean("pdfExecutor")).getMaximumPoolSize()).isEqualTo(3);
+        });
+    }
+
+    // antes do Java 21 a propriedade não tem efeito: continua o pool comum
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void testVirtualAntesDoJava21_ContinuaNoPool() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true").run(ctx ->
+                assertThat(ctx.getBean("pdfExecutor", Executor.class)).isInstanceOf(ThreadPoolExecutor.class));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testVirtual_UmaVirtualThreadPorPdfComLimite() throws Exception {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true").run(ctx -> {
+            SimpleAsyncTaskExecutor executor = ctx.getBean("pdfExecutor", SimpleAsyncTaskExecutor.class);
+            assertThat(executor.getConcurrencyLimit()).isEqualTo(3);
+
+            // pelo nome: Thread.isVirtual() não compila com release 17
+            boolean[] virtual = new boolean[1];
+            executor.submit(() -> virtual[0] = Thread.currentThread().toString().startsWith("VirtualThread")).get();
+            assertThat(virtual[0]).isTrue();
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.orcamento.dtos.PdfLoteRequestDto;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+import br.com.papillon.eventos.orcamento.exception.PdfLoteInvalidoException;
+import br.com.papillon.eventos.orcamento.services.OrcamentoService;
+import br.com.papillon.eventos.orcamento.services.PdfCache;
+import br.com.papillon.eventos.orcamento.services.PdfLoteService;
+import br.com.papillon.eventos.orcamento.services.PdfService;
+import br.com.papillon.eventos.orcamento.services.PropostaTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class PdfLoteServiceTests {
+
+    private OrcamentoService orcamentoService;
+    private ExecutorService executor;
+    private PdfLoteService loteService;
+
+    @BeforeEach
+    void setUp() {
+        orcamentoService = mock(OrcamentoService.class);
+        executor = Executors.newFixedThreadPool(2);
+        PdfService pdfService = new PdfService(new PdfCache(10_000_000, "", 0), new PropostaTemplate(),
+                new SimpleMeterRegistry());
+        loteService = new PdfLoteService(orcamentoService, pdfService, executor, new ObjectMapper(), 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGerarZip_PdfsERelatorioPorId() throws Exception {
+        Orcamento semCliente = orcamento(2L);
+        semCliente.setCliente(null); // falha na renderização
+        when(orcamentoService.getEntitiesForPdf(anyCollection()))
+                .thenReturn(List.of(orcamento(1L), semCliente));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        loteService.gerarZip(List.of(1L, 2L, 3L), out);
+
+        Map<String, byte[]> arquivos = lerZip(out.toByteArray());
+        assertEquals(List.of("orcamento_1.pdf", "relatorio.csv"), List.copyOf(arquivos.keySet()));
+        assertTrue(new String(arquivos.get("orcamento_1.pdf"), StandardCharsets.ISO_8859_1).startsWith("%PDF"));
+
+        String relatorio = new String(arquivos.get("relatorio.csv"), StandardCharsets.UTF_8);
+        assertTrue(relatorio.startsWith("id,resultado,bytes,erro\r\n"));
+        assertTrue(relatorio.contains("1,OK," + arquivos.get("orcamento_1.pdf").length + ",\r\n"));
+        assertTrue(relatorio.contains("2,ERRO,,"));
+        assertTrue(relatorio.contains("3,NAO_ENCONTRADO,,\r\n"));
+    }
+
+    @Test
+    void testResolverIds_PorStatus() {
+        when(orcamentoService.getIdsByStatus(OrcamentoStatus.PENDENTE)).thenReturn(List.of(4L, 5L));
+
+        assertEquals(List.of(4L, 5L), loteService.resolverIds(new PdfLoteRequestDto(null, OrcamentoStatus.PENDENTE)));
+    }
+
+    @Test
+    void testResolverIds_RemoveDuplicados() {
+        assertEquals(List.of(3L, 1L), loteService.resolverIds(new PdfLoteRequestDto(List.of(3L, 1L, 3L), null)));
+    }
+
+    @Test
+    void testResolverIds_Invalidos() {
+        assertThrows(PdfLoteInvalidoException.class,
+                () -> loteService.resolverIds(new PdfLoteRequestDto(null, null)));
+        assertThrows(PdfLoteInvalidoException.class,
+                () -> loteService.resolverIds(new PdfLoteRequestDto(List.of(1L), OrcamentoStatus.PENDENTE)));
+        assertThrows(PdfLoteInvalidoException.class,
+                () -> loteService.resolverIds(new PdfLoteRequestDto(List.of(1L, 2L, 3L, 4L), null)));
+    }
+
+    private static Orcamento orcamento(Long id) {
+        Cliente cliente = new Cliente();
+        cliente.setId(id);
+        cliente.setNome("Cliente " + id);
+        return Orcamento.builder()
+                .id(id).cliente(cliente)
+                .dataDoEvento(LocalDate.of(2025, 9, 1)).dataLimite(LocalDate.of(2025, 8, 1))
+                .quantidadePessoas(10).valorPorPessoa(new BigDecimal("50")).valorTotal(new BigDecimal("500"))
+                .status(OrcamentoStatus.PENDENTE)
+                .cardapios(List.of())
+                .funcionarios(List.of())
+                .build();
+    }
+
+    private static Map<String, byte[]> lerZip(byte[] zip) throws Exception {
+        Map<String, byte[]> arquivos = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry e = in.getNextEntry(); e != null; e = in.getNextEntry()) {
+                arquivos.put(e.getName(), in.readAllBytes());
+            }
+        }
+        return arquivos;
+    }
+}
@@ -0,0 +1,197 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.cardapios.entities.Cardapio;
+import br.com.papillon.eventos.cardapios.entities.Item;
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+import br.com.papillon.eventos.orcamento.services.PdfCache;
+import br.com.papillon.eventos.orcamento.services.PdfService;
+import br.com.papillon.eventos.orcamento.services.PropostaTemplate;
+
+import com.lowagie.text.*;
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// mvn -Pbench test-compile exec:exec -Dbench=PdfServiceBenchmark
+// "legado" é a renderização anterior ao template (tudo refeito a cada chamada), copiada aqui como referência.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PdfServiceBenchmark {
+
+    @Param({"2", "10"})
+    int cardapios;
+
+    private PdfService pdfService;
+    private Orcamento orcamento;
+
+    @Setup
+    public void setUp() {
+        // cache de 0 bytes: toda chamada renderiza
+        pdfService = new PdfService(new PdfCache(0, "", 0), new PropostaTemplate(), new SimpleMeterRegistry());
+
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("Maria da Silva");
+
+        List<Cardapio> lista = new ArrayList<>();
+        for (int c = 0; c < cardapios; c++) {
+            List<Item> itens = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                itens.add(Item.builder().nome("Item " + c + "-" + i).tipo(i % 2 == 0 ? "Prato" : "Bebida").build());
+            }
+            lista.add(Cardapio.builder().nome("Cardápio " + c).itens(itens).build());
+        }
+
+        orcamento = Orcamento.builder()
+                .id(42L).cliente(cliente)
+                .dataDoEvento(LocalDate.of(2025, 9, 1)).dataLimite(LocalDate.of(2025, 8, 1))
+                .quantidadePessoas(120).valorPorPessoa(new BigDecimal("95.50")).valorTotal(new BigDecimal("11460.00"))
+                .status(OrcamentoStatus.PENDENTE)
+                .cardapios(lista)
+                .funcionarios(List.of())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] template() {
+        return pdfService.generatePdfFromOrcamento(orcamento);
+    }
+
+    @Benchmark
+    public byte[] legado() throws DocumentException {
+        return renderLegado(orcamento);
+    }
+
+    private static byte[] renderLegado(Orcamento orcamento) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4, 36, 36, 36, 36);
+        PdfWriter.getInstance(document, out);
+        document.open();
+
+        Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, new Color(0, 51, 102));
+        Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
+        Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
+        Font smallBoldFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9);
+        Font italicFont = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 10);
+
+        Paragraph saudacao = new Paragraph();
+        saudacao.add(new Chunk("PREZADO(A): " + orcamento.getCliente().getNome(), headerFont));
+        document.add(saudacao);
+        document.add(Chunk.NEWLINE);
+
+        texto(document, "É com imensa satisfação que enviamos proposta e condições especiais para a realização do evento.",
+                normalFont, 0);
+        texto(document, "- SERVIÇO DE QUALIDADE", headerFont, 10);
+        texto(document, "Nosso serviço proporcionará uma experiência personalizada que valoriza cada pessoa presente. " +
+                "Seu evento terá cardápio e decoração exclusivos.", normalFont, 5);
+        texto(document, "- NOSSO HISTÓRICO – COMO COMEÇAMOS", headerFont, 10);
+        texto(document, "PAPILLON hoje considerada uma das principais empresas de gastronomia e decoração de Fortaleza, " +
+                "tem uma ótima reputação que foi conquistada graças a um trabalho de excelência e muito relacionamento " +
+                "de proximidade e respeito com nossos clientes ao longo dos anos. Acreditamos que todos eles merecem " +
+                "o mais alto nível de atendimento, e esse é exatamente o nosso compromisso. Desde 2003 Erika Queiroz " +
+                "trabalha sempre para superar as expectativas, realizando eventos sociais e corporativos, com " +
+                "altíssimo padrão de qualidade a cada entrega.", normalFont, 5);
+        texto(document, "- SERVIÇOS", headerFont, 10);
+        texto(document, "Gastronomia e Decoração", headerFont, 5);
+        texto(document, "- Nossos serviços são personalizados para refletir a identidade de cada evento. Sendo idealizado " +
+                "com muita dedicação, comprometimento e amor, transformando sonhos em realidade!", normalFont, 5);
+        texto(document, "- ORÇAMENTO -", headerFont, 10);
+        texto(document, "É com imensa satisfação que enviamos proposta e condições especiais para a realização do seu evento.",
+                normalFont, 15);
+
+        Paragraph title = new Paragraph(20);
+        title.add(new Chunk("DETALHES DO ORÇAMENTO", titleFont));
+        title.setAlignment(Element.ALIGN_CENTER);
+        document.add(title);
+
+        PdfPTable mainTable = new PdfPTable(new float[]{35, 65});
+        mainTable.setWidthPercentage(100);
+        mainTable.setSpacingBefore(10);
+        mainTable.addCell(celula("Campo", Element.ALIGN_CENTER, true, headerFont));
+        mainTable.addCell(celula("Valor", Element.ALIGN_CENTER, true, headerFont));
+        linha(mainTable, "Número do Orçamento:", orcamento.getId().toString(), normalFont);
+        linha(mainTable, "Cliente:", orcamento.getCliente().getNome(), normalFont);
+        linha(mainTable, "Data do Evento:", orcamento.getDataDoEvento().toString(), normalFont);
+        linha(mainTable, "Quantidade de Pessoas:", String.valueOf(orcamento.getQuantidadePessoas()), normalFont);
+        linha(mainTable, "Valor por Pessoa:", "R$" + orcamento.getValorPorPessoa(), normalFont);
+        linha(mainTable, "Valor Total:", "R$" + orcamento.getValorTotal(), normalFont);
+        linha(mainTable, "Data Limite:", orcamento.getDataLimite().toString(), normalFont);
+        document.add(mainTable);
+
+        Paragraph cardapiosTitle = new Paragraph(15);
+        cardapiosTitle.add(new Chunk("📋 CARDÁPIOS", headerFont));
+        document.add(cardapiosTitle);
+
+        for (var c : orcamento.getCardapios()) {
+            Paragraph cardapioName = new Paragraph();
+            cardapioName.add(new Chunk("- " + c.getNome(), smallBoldFont));
+            cardapioName.setIndentationLeft(10);
+            document.add(cardapioName);
+
+            PdfPTable itensTable = new PdfPTable(new float[]{70, 30});
+            itensTable.setWidthPercentage(100);
+            itensTable.setSpacingBefore(5);
+            itensTable.addCell(celula("Item", Element.ALIGN_LEFT, true, smallBoldFont));
+            itensTable.addCell(celula("Tipo", Element.ALIGN_LEFT, true, smallBoldFont));
+            for (var i : c.getItens()) {
+                itensTable.addCell(celula("• " + i.getNome(), Element.ALIGN_LEFT, false, normalFont));
+                itensTable.addCell(celula(i.getTipo(), Element.ALIGN_LEFT, false, normalFont));
+            }
+            document.add(itensTable);
+            document.add(Chunk.NEWLINE);
+        }
+
+        Paragraph footer = new Paragraph(20);
+        footer.add(new Chunk("Gerado em: " + new Date(), italicFont));
+        footer.setAlignment(Element.ALIGN_CENTER);
+        document.add(footer);
+
+        document.close();
+        return out.toByteArray();
+    }
+
+    private static void texto(Document document, String text, Font font, float spacingAfter) throws DocumentException {
+        Paragraph p = new Paragraph();
+        p.add(new Chunk(text, font));
+        p.setSpacingAfter(spacingAfter);
+        document.add(p);
+    }
+
+    private static void linha(PdfPTable table, String label, String value, Font font) {
+        table.addCell(celula(label, Element.ALIGN_RIGHT, true, font));
+        table.addCell(celula(value, Element.ALIGN_LEFT, false, font));
+    }
+
+    private static PdfPCell celula(String text, int alignment, boolean isBold, Font baseFont) {
+        Font font = isBold
+                ? FontFactory.getFont(FontFactory.HELVETICA_BOLD, baseFont.getSize(), baseFont.getColor())
+                : baseFont;
+        PdfPCell cell = new PdfPCell(new Phrase(new Chunk(text, font)));
+        cell.setHorizontalAlignment(alignment);
+        cell.setPadding(5);
+        cell.setBorderColor(Color.LIGHT_GRAY);
+        if (isBold) {
+            cell.setBackgroundColor(new Color(240, 240, 240));
+        }
+        return cell;
+    }
+}
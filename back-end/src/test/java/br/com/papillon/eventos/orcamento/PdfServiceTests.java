@@ -0,0 +1,132 @@
+package br.com.papillon.eventos.orcamento;
+
+import br.com.papillon.eventos.cardapios.entities.Cardapio;
+import br.com.papillon.eventos.cardapios.entities.Item;
+import br.com.papillon.eventos.cliente.entities.Cliente;
+import br.com.papillon.eventos.orcamento.entities.Orcamento;
+import br.com.papillon.eventos.orcamento.entities.OrcamentoStatus;
+import br.com.papillon.eventos.orcamento.services.PdfCache;
+import br.com.papillon.eventos.orcamento.services.PdfService;
+import br.com.papillon.eventos.orcamento.services.PropostaTemplate;
+
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PdfServiceTests {
+
+    private static final PropostaTemplate TEMPLATE = new PropostaTemplate();
+
+    private SimpleMeterRegistry registry;
+    private PdfCache cache;
+    private PdfService pdfService;
+    private Orcamento orcamento;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new PdfCache(10_000_000, "", 0);
+        pdfService = new PdfService(cache, TEMPLATE, registry);
+
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("João");
+
+        orcamento = Orcamento.builder()
+                .id(7L).cliente(cliente)
+                .dataDoEvento(LocalDate.of(2025, 9, 1)).dataLimite(LocalDate.of(2025, 8, 1))
+                .quantidadePessoas(50).valorPorPessoa(new BigDecimal("80")).valorTotal(new BigDecimal("4000"))
+                .status(OrcamentoStatus.PENDENTE)
+                .cardapios(List.of(Cardapio.builder().nome("Jantar")
+                        .itens(List.of(Item.builder().nome("Risoto").tipo("Prato").build()))
+                        .build()))
+                .funcionarios(List.of())
+                .build();
+    }
+
+    @Test
+    void testWritePdf_EscreveNoStreamSemFechar() throws Exception {
+        ByteArrayOutputStream out = spy(new ByteArrayOutputStream());
+
+        pdfService.writePdf(orcamento, out);
+
+        assertTrue(out.toString().startsWith("%PDF"));
+        verify(out, never()).close();
+    }
+
+    @Test
+    void testGeneratePdf_TemplateImportaSecoesFixas() throws Exception {
+        byte[] pdf = pdfService.generatePdfFromOrcamento(orcamento);
+
+        String texto = new PdfTextExtractor(new PdfReader(pdf)).getTextFromPage(1);
+        assertTrue(texto.contains("PREZADO(A): João"));
+        assertTrue(texto.contains("NOSSO HISTÓRICO"));
+        assertTrue(texto.contains("DETALHES DO ORÇAMENTO"));
+        assertTrue(texto.contains("Risoto"));
+    }
+
+    @Test
+    void testWritePdf_SegundaChamadaVemDoCache() throws Exception {
+        ByteArrayOutputStream primeiro = new ByteArrayOutputStream();
+        ByteArrayOutputStream segundo = new ByteArrayOutputStream();
+
+        pdfService.writePdf(orcamento, primeiro);
+        pdfService.writePdf(orcamento, segundo);
+
+        assertArrayEquals(primeiro.toByteArray(), segundo.toByteArray());
+        assertEquals(1, registry.get("pdf.render").timer().count());
+    }
+
+    @Test
+    void testRender_MedidoSoQuandoNaoVemDoCache() throws Exception {
+        pdfService.writePdf(orcamento, OutputStream.nullOutputStream());
+        pdfService.getPdf(orcamento);
+        pdfService.generatePdfFromOrcamento(orcamento);
+
+        assertEquals(2, registry.get("pdf.render").timer().count());
+    }
+
+    @Test
+    void testWritePdf_MuitosItens_VaiDiretoParaOStreamSemCache() throws Exception {
+        List<Item> itens = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            itens.add(Item.builder().nome("Item " + i).tipo("Prato").build());
+        }
+        orcamento.setCardapios(List.of(Cardapio.builder().nome("Buffet").itens(itens).build()));
+        PdfCache espiao = spy(cache);
+        pdfService = new PdfService(espiao, TEMPLATE, registry);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        pdfService.writePdf(orcamento, out);
+        pdfService.writePdf(orcamento, OutputStream.nullOutputStream());
+
+        assertTrue(out.toString().startsWith("%PDF"));
+        assertEquals(2, registry.get("pdf.render").timer().count());
+        verify(espiao, never()).put(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void testRodape_DataDeGeracaoDoOrcamento() throws Exception {
+        orcamento.setDataGeracao(LocalDate.of(2025, 7, 1));
+
+        byte[] pdf = pdfService.generatePdfFromOrcamento(orcamento);
+
+        PdfReader reader = new PdfReader(pdf);
+        String ultimaPagina = new PdfTextExtractor(reader).getTextFromPage(reader.getNumberOfPages());
+        assertTrue(ultimaPagina.contains("Gerado em: 2025-07-01"));
+    }
+}
@@ -25,12 +25,14 @@ export function BudgetList({ budgets }: BudgetListProps) {
     PENDENTE: "bg-yellow-100 text-yellow-800 hover:bg-yellow-100 dark:bg-yellow-900 dark:text-yellow-100",
     ACEITO: "bg-green-100 text-green-800 hover:bg-green-100 dark:bg-green-900 dark:text-green-100",
     RECUSADO: "bg-red-100 text-red-800 hover:bg-red-100 dark:bg-red-900 dark:text-red-100",
+    EXPIRADO: "bg-gray-100 text-gray-800 hover:bg-gray-100 dark:bg-gray-800 dark:text-gray-100",
   }
 
   const statusLabels = {
     PENDENTE: "PENDENTE",
     ACEITO: "ACEITO",
     RECUSADO: "RECUSADO",
+    EXPIRADO: "EXPIRADO",
   }
 
   return (
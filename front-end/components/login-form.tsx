@@ -10,6 +10,7 @@ import { EyeIcon, EyeOffIcon } from "lucide-react"
 
 interface AuthResponse {
   token: string
+  refreshToken: string
   email: string
   name: string
 }
@@ -109,6 +110,7 @@ export function LoginForm() {
       })
 
       localStorage.setItem("token", response.token)
+      localStorage.setItem("refreshToken", response.refreshToken)
       authStoreLogin({
         email: response.email,
         name: response.name
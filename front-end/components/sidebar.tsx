@@ -16,6 +16,7 @@ import {
   SidebarMenuItem,
   SidebarSeparator,
 } from "@/components/ui/sidebar"
+import { logout as apiLogout } from "@/lib/api/authService"
 import { useAuthStore } from "@/lib/auth-store"
 import {
   DropdownMenu,
@@ -35,6 +36,7 @@ export function AppSidebar() {
   const [exportDialogOpen, setExportDialogOpen] = useState(false)
 
   const handleLogout = () => {
+    apiLogout()
     logout()
     router.push("/login")
   }
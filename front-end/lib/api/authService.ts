@@ -3,27 +3,109 @@ interface LoginDto{
     password: string;
 }
 
+interface TokensDto {
+    token: string;
+    refreshToken?: string;
+}
+
+const AUTH_URL = "http://localhost:8080/api/auth";
+
+function salvarTokens(data: TokensDto) {
+    localStorage.setItem("token", data.token);
+    if (data.refreshToken) {
+        localStorage.setItem("refreshToken", data.refreshToken);
+    }
+}
 
 export async function login(login: LoginDto){
     try {
-        const response = await fetch("http://localhost:8080/api/auth/login", {
+        const response = await fetch(`${AUTH_URL}/login`, {
         method: "POST",
         headers: {
             "Content-Type": "application/json",
         },
         body: JSON.stringify(login),
         });
-    
-        if (!response.ok) {   
+
+        if (!response.ok) {
             console.log("login erro")
         }
 
         const data = await response.json();
-        localStorage.setItem("token", data.token);
-        console.log(data.token)
+        salvarTokens(data);
         return data;
     } catch (error) {
         console.error("Login failed:", error);
         throw error;
     }
-}
\ No newline at end of file
+}
+
+// pedidos que recebem 401/403 ao mesmo tempo esperam a mesma renovação:
+// o refresh token é rotacionado a cada uso e não pode ser enviado duas vezes
+let renovacaoEmAndamento: Promise<boolean> | null = null;
+
+export function refresh(): Promise<boolean> {
+    if (!renovacaoEmAndamento) {
+        renovacaoEmAndamento = renovar().finally(() => {
+            renovacaoEmAndamento = null;
+        });
+    }
+    return renovacaoEmAndamento;
+}
+
+async function renovar(): Promise<boolean> {
+    const refreshToken = localStorage.getItem("refreshToken");
+    if (!refreshToken) return false;
+    try {
+        const response = await fetch(`${AUTH_URL}/refresh`, {
+            method: "POST",
+            headers: { "Content-Type": "application/json" },
+            body: JSON.stringify({ refreshToken }),
+        });
+        if (!response.ok) {
+            // outra aba pode ter renovado com o mesmo token: nesse caso o par novo já está no localStorage
+            if (localStorage.getItem("refreshToken") !== refreshToken) return true;
+            localStorage.removeItem("token");
+            localStorage.removeItem("refreshToken");
+            return false;
+        }
+        salvarTokens(await response.json());
+        return true;
+    } catch (error) {
+        console.error("Refresh failed:", error);
+        return false;
+    }
+}
+
+// fetch com o access token atual; se expirou, renova uma vez e repete o pedido
+export async function authFetch(url: string, init: RequestInit = {}): Promise<Response> {
+    const enviar = () => fetch(url, {
+        ...init,
+        headers: {
+            ...(init.headers as Record<string, string>),
+            Authorization: `Bearer ${localStorage.getItem("token")}`,
+        },
+    });
+
+    const response = await enviar();
+    if ((response.status === 401 || response.status === 403) && await refresh()) {
+        return enviar();
+    }
+    return response;
+}
+
+export async function logout() {
+    const refreshToken = localStorage.getItem("refreshToken");
+    localStorage.removeItem("token");
+    localStorage.removeItem("refreshToken");
+    if (!refreshToken) return;
+    try {
+        await fetch(`${AUTH_URL}/logout`, {
+            method: "POST",
+            headers: { "Content-Type": "application/json" },
+            body: JSON.stringify({ refreshToken }),
+        });
+    } catch (error) {
+        console.error("Logout failed:", error);
+    }
+}
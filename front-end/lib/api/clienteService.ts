@@ -1,3 +1,5 @@
+import { authFetch } from "./authService";
+
 export interface ClienteDto {
   nome: string;
   email?: string;
@@ -29,7 +31,7 @@ export class ClienteAlreadyExistsError extends Error {
 
 export async function registerCliente(dto: ClienteDto): Promise<ApiResponse<ClienteDto>> {
   try {
-    const response = await fetch("http://localhost:8080/api/cliente", {
+    const response = await authFetch("http://localhost:8080/api/cliente", {
       method: "POST",
       headers: {
         "Content-Type": "application/json",
@@ -59,7 +61,7 @@ export async function registerCliente(dto: ClienteDto): Promise<ApiResponse<Clie
 
 export async function listAllClientes(): Promise<ApiResponse<ClienteDto[]>> {
   try {
-    const response = await fetch("http://localhost:8080/api/cliente", {
+    const response = await authFetch("http://localhost:8080/api/cliente", {
       method: "GET",
       headers: {
         "Content-Type": "application/json",
@@ -80,7 +82,7 @@ export async function listAllClientes(): Promise<ApiResponse<ClienteDto[]>> {
 
 export async function getClienteById(id: number): Promise<ApiResponse<ClienteDto>> {
   try {
-    const response = await fetch(`http://localhost:8080/api/cliente/${id}`, {
+    const response = await authFetch(`http://localhost:8080/api/cliente/${id}`, {
       method: "GET",
       headers: {
         "Content-Type": "application/json",
@@ -101,7 +103,7 @@ export async function getClienteById(id: number): Promise<ApiResponse<ClienteDto
 
 export async function getClienteDetails(id: number): Promise<ApiResponse<ClienteDetailsDto>> {
   try {
-    const response = await fetch(`http://localhost:8080/api/cliente/${id}/details`, {
+    const response = await authFetch(`http://localhost:8080/api/cliente/${id}/details`, {
       method: "GET",
       headers: {
         "Content-Type": "application/json",
@@ -122,7 +124,7 @@ export async function getClienteDetails(id: number): Promise<ApiResponse<Cliente
 
 export async function updateClienteById(id: number, dto: ClienteDto): Promise<ApiResponse<ClienteDto>> {
   try {
-    const response = await fetch(`http://localhost:8080/api/cliente/${id}`, {
+    const response = await authFetch(`http://localhost:8080/api/cliente/${id}`, {
       method: "PUT",
       headers: {
         "Content-Type": "application/json",
@@ -144,7 +146,7 @@ export async function updateClienteById(id: number, dto: ClienteDto): Promise<Ap
 
 export async function deleteClienteById(id: number): Promise<ApiResponse<void>> {
   try {
-    const response = await fetch(`http://localhost:8080/api/cliente/${id}`, {
+    const response = await authFetch(`http://localhost:8080/api/cliente/${id}`, {
       method: "DELETE",
       headers: {
         "Content-Type": "application/json",
@@ -166,7 +168,7 @@ export async function deleteClienteById(id: number): Promise<ApiResponse<void>>
 
 export async function fetchClienteDetails(id: number): Promise<ClienteDetailsDto | null> {
   try {
-    const response = await fetch(`http://localhost:8080/api/cliente/${id}/details`,{
+    const response = await authFetch(`http://localhost:8080/api/cliente/${id}/details`,{
       method: "GET",
       headers: {
         "Content-Type": "application/json",
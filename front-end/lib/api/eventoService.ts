@@ -1,3 +1,5 @@
+import { authFetch } from "./authService";
+
 export interface EventoCreateDto {
   // Define properties based on your EventoCreateDto Java class
   // Example:
@@ -33,7 +35,7 @@ export interface EventoShowDto {
 }
 
 export async function createEvento(eventoDto: EventoCreateDto): Promise<EventoShowDto> {
-  const response = await fetch("http://localhost:8080/api/evento", {
+  const response = await authFetch("http://localhost:8080/api/evento", {
     method: "POST",
     headers: {
       "Content-Type": "application/json",
@@ -51,7 +53,7 @@ export async function createEvento(eventoDto: EventoCreateDto): Promise<EventoSh
 }
 
 export async function listAllEventos(): Promise<EventoShowDto[]> {
-  const response = await fetch("http://localhost:8080/api/evento", {
+  const response = await authFetch("http://localhost:8080/api/evento", {
     method: "GET",
     headers: {
       "Content-Type": "application/json",
@@ -68,7 +70,7 @@ export async function listAllEventos(): Promise<EventoShowDto[]> {
 }
 
 export async function getEventoById(id: number): Promise<EventoShowDto> {
-  const response = await fetch(`http://localhost:8080/api/evento/${id}`, {
+  const response = await authFetch(`http://localhost:8080/api/evento/${id}`, {
     method: "GET",
     headers: {
       "Content-Type": "application/json",
@@ -85,7 +87,7 @@ export async function getEventoById(id: number): Promise<EventoShowDto> {
 }
 
 export async function updateEvento(id: number, eventoDto: EventoCreateDto): Promise<EventoShowDto> {
-  const response = await fetch(`http://localhost:8080/api/evento/${id}`, {
+  const response = await authFetch(`http://localhost:8080/api/evento/${id}`, {
     method: "PUT",
     headers: {
       "Content-Type": "application/json",
@@ -103,7 +105,7 @@ export async function updateEvento(id: number, eventoDto: EventoCreateDto): Prom
 }
 
 export async function deleteEvento(id: number): Promise<void> {
-  const response = await fetch(`http://localhost:8080/api/evento/${id}`, {
+  const response = await authFetch(`http://localhost:8080/api/evento/${id}`, {
     method: "DELETE",
     headers: {
       "Content-Type": "application/json",
@@ -1,3 +1,5 @@
+import { authFetch } from "./authService";
+
 export interface InsumoDto {
   id?: number;
   nome: string;
@@ -22,7 +24,7 @@ export class InsumoNotFoundError extends Error {
 // Criar insumo
 export async function createInsumo(dto: InsumoDto): Promise<ApiResponse<InsumoDto>> {
   try {
-    const response = await fetch("http://localhost:8080/api/insumo", {
+    const response = await authFetch("http://localhost:8080/api/insumo", {
       method: "POST",
       headers: {
         "Content-Type": "application/json",
@@ -46,7 +48,7 @@ export async function createInsumo(dto: InsumoDto): Promise<ApiResponse<InsumoDt
 // Listar todos os insumos
 export async function listAllInsumos(): Promise<ApiResponse<InsumoDto[]>> {
   try {
-    const response = await fetch("http://localhost:8080/api/insumo", {
+    const response = await authFetch("http://localhost:8080/api/insumo", {
       method: "GET",
       headers: {
         Authorization: `Bearer ${localStorage.getItem("token")}`,
@@ -68,7 +70,7 @@ export async function listAllInsumos(): Promise<ApiResponse<InsumoDto[]>> {
 // Buscar insumo por ID
 export async function getInsumoById(id: number): Promise<ApiResponse<InsumoDto>> {
   try {
-    const response = await fetch(`http://localhost:8080/api/insumo/${id}`, {
+    const response = await authFetch(`http://localhost:8080/api/insumo/${id}`, {
       method: "GET",
       headers: {
         Authorization: `Bearer ${localStorage.getItem("token")}`,
@@ -93,7 +95,7 @@ export async function getInsumoById(id: number): Promise<ApiResponse<InsumoDto>>
 // Deletar insumo por ID
 export async function deleteInsumoById(id: number): Promise<ApiResponse<void>> {
   try {
-    const response = await fetch(`http://localhost:8080/api/insumo/${id}`, {
+    const response = await authFetch(`http://localhost:8080/api/insumo/${id}`, {
       method: "DELETE",
       headers: {
         Authorization: `Bearer ${localStorage.getItem("token")}`,
@@ -1,3 +1,5 @@
+import { authFetch } from "./authService";
+
 export interface Cliente {
   nome: string;
   email?: string;
@@ -35,13 +37,13 @@ export interface OrcamentoPayload {
 export interface OrcamentoResponse extends OrcamentoPayload {
   id: number;
   valorTotal: number;
-  status: "PENDENTE" | "ACEITO" | "RECUSADO";
+  status: "PENDENTE" | "ACEITO" | "RECUSADO" | "EXPIRADO";
   createdAt: string;
   eventId?: number;
 }
 
 export async function enviarOrcamento(payload: OrcamentoPayload): Promise<OrcamentoResponse> {
-  const response = await fetch("http://localhost:8080/api/orcamento", {
+  const response = await authFetch("http://localhost:8080/api/orcamento", {
     method: "POST",
     headers: {
       "Content-Type": "application/json",
@@ -59,7 +61,7 @@ export async function enviarOrcamento(payload: OrcamentoPayload): Promise<Orcame
 }
 
 export async function pegarOrcamentos(): Promise<OrcamentoResponse[]> {
-  const response = await fetch("http://localhost:8080/api/orcamento", {
+  const response = await authFetch("http://localhost:8080/api/orcamento", {
     method: "GET",
     headers: {
       "Content-Type": "application/json",
@@ -76,7 +78,7 @@ export async function pegarOrcamentos(): Promise<OrcamentoResponse[]> {
 }
 
 export async function atualizarOrcamento(id: number, payload: OrcamentoPayload): Promise<OrcamentoResponse> {
-  const response = await fetch(`http://localhost:8080/api/orcamento/${id}`, {
+  const response = await authFetch(`http://localhost:8080/api/orcamento/${id}`, {
     method: "PUT",
     headers: {
       "Content-Type": "application/json",
@@ -94,7 +96,7 @@ export async function atualizarOrcamento(id: number, payload: OrcamentoPayload):
 }
 
 export async function atualizarStatusOrcamento(id: number, status: "PENDENTE" | "ACEITO" | "RECUSADO"): Promise<OrcamentoResponse> {
-  const response = await fetch(`http://localhost:8080/api/orcamento/${id}/status/${status}`, {
+  const response = await authFetch(`http://localhost:8080/api/orcamento/${id}/status/${status}`, {
     method: "PATCH",
     headers: {
       "Content-Type": "application/json",
@@ -111,7 +113,7 @@ export async function atualizarStatusOrcamento(id: number, status: "PENDENTE" |
 }
 
 export async function deletarOrcamento(id: number): Promise<void> {
-  const response = await fetch(`http://localhost:8080/api/orcamento/${id}`, {
+  const response = await authFetch(`http://localhost:8080/api/orcamento/${id}`, {
     method: "DELETE",
     headers: {
       "Content-Type": "application/json",
@@ -130,7 +132,7 @@ export function getOrcamentoById(arg0: number) {
 }
 
 export async function downloadPdfOrcamento(id: string): Promise<Blob> {
-  const response = await fetch(`http://localhost:8080/api/orcamento/${id}/pdf`, {
+  const response = await authFetch(`http://localhost:8080/api/orcamento/${id}/pdf`, {
     method: "GET",
     headers: {
       Authorization: `Bearer ${localStorage.getItem("token")}`,
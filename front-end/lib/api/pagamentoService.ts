@@ -1,3 +1,5 @@
+import { authFetch } from "./authService";
+
 export interface MetodoPagamentoDto {
   id?: number;
   nome: string;
@@ -17,7 +19,7 @@ const authHeader = {
  * Cria um novo método de pagamento
  */
 export async function createMetodoPagamento(dto: MetodoPagamentoDto): Promise<MetodoPagamentoDto> {
-  const response = await fetch(API_URL, {
+  const response = await authFetch(API_URL, {
     method: "POST",
     headers: authHeader,
     body: JSON.stringify(dto),  
@@ -35,7 +37,7 @@ export async function createMetodoPagamento(dto: MetodoPagamentoDto): Promise<Me
  * Lista todos os métodos de pagamento
  */
 export async function listAllMetodosPagamento(): Promise<MetodoPagamentoDto[]> {
-  const response = await fetch(API_URL, {
+  const response = await authFetch(API_URL, {
     method: "GET",
     headers: authHeader,
   })
@@ -52,7 +54,7 @@ export async function listAllMetodosPagamento(): Promise<MetodoPagamentoDto[]> {
  * Busca um método de pagamento por ID
  */
 export async function getMetodoPagamentoById(id: number): Promise<MetodoPagamentoDto> {
-  const response = await fetch(`${API_URL}/${id}`, {
+  const response = await authFetch(`${API_URL}/${id}`, {
     method: "GET",
     headers: authHeader,
   })
@@ -69,7 +71,7 @@ export async function getMetodoPagamentoById(id: number): Promise<MetodoPagament
  * Atualiza um método de pagamento
  */
 export async function updateMetodoPagamento(id: number, dto: MetodoPagamentoDto): Promise<MetodoPagamentoDto> {
-  const response = await fetch(`${API_URL}/${id}`, {
+  const response = await authFetch(`${API_URL}/${id}`, {
     method: "PUT",
     headers: authHeader,
     body: JSON.stringify(dto),
@@ -87,7 +89,7 @@ export async function updateMetodoPagamento(id: number, dto: MetodoPagamentoDto)
  * Exclui um método de pagamento
  */
 export async function deleteMetodoPagamento(id: number): Promise<void> {
-  const response = await fetch(`${API_URL}/${id}`, {
+  const response = await authFetch(`${API_URL}/${id}`, {
     method: "DELETE",
     headers: authHeader,
   })
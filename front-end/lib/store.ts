@@ -48,7 +48,7 @@ export interface Budget {
   dataDoEvento: Date;
   dataLimite?: Date;
   notas?: string;
-  status: "PENDENTE" | "ACEITO" | "RECUSADO";
+  status: "PENDENTE" | "ACEITO" | "RECUSADO" | "EXPIRADO";
   eventId?: string;
   funcionarios: Person[];
   cardapios: Menu[];
@@ -20,3 +20,48 @@ describe("login service", () => {
     expect(localStorage.getItem("token")).toBe("fake-token-123");
   });
 });
+
+describe("authFetch", () => {
+  beforeEach(() => {
+    localStorage.setItem("token", "access-velho");
+    localStorage.setItem("refreshToken", "refresh-1");
+  });
+
+  it("renova o access token uma vez e repete o pedido", async () => {
+    const { authFetch } = await import("../lib/api/authService");
+
+    global.fetch = jest.fn()
+      .mockResolvedValueOnce({ ok: false, status: 401 })
+      .mockResolvedValueOnce({
+        ok: true,
+        status: 200,
+        json: () => Promise.resolve({ token: "access-novo", refreshToken: "refresh-2" }),
+      })
+      .mockResolvedValueOnce({ ok: true, status: 200 }) as jest.Mock;
+
+    const response = await authFetch("http://localhost:8080/api/cliente", { method: "GET" });
+
+    expect(response.status).toBe(200);
+    expect(fetch).toHaveBeenNthCalledWith(2, "http://localhost:8080/api/auth/refresh", expect.objectContaining({
+      body: JSON.stringify({ refreshToken: "refresh-1" }),
+    }));
+    expect(fetch).toHaveBeenNthCalledWith(3, "http://localhost:8080/api/cliente", expect.objectContaining({
+      headers: expect.objectContaining({ Authorization: "Bearer access-novo" }),
+    }));
+    expect(localStorage.getItem("refreshToken")).toBe("refresh-2");
+  });
+
+  it("refresh recusado limpa os tokens e devolve a resposta original", async () => {
+    const { authFetch } = await import("../lib/api/authService");
+
+    global.fetch = jest.fn()
+      .mockResolvedValueOnce({ ok: false, status: 401 })
+      .mockResolvedValueOnce({ ok: false, status: 401 }) as jest.Mock;
+
+    const response = await authFetch("http://localhost:8080/api/cliente");
+
+    expect(response.status).toBe(401);
+    expect(fetch).toHaveBeenCalledTimes(2);
+    expect(localStorage.getItem("token")).toBeNull();
+  });
+});